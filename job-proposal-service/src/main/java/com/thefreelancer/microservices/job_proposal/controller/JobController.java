@@ -1,8 +1,17 @@
 package com.thefreelancer.microservices.job_proposal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thefreelancer.microservices.job_proposal.dto.CacheStatsDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobBidStatsDto;
 import com.thefreelancer.microservices.job_proposal.dto.JobCreateDto;
 import com.thefreelancer.microservices.job_proposal.dto.JobResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchPageDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
 import com.thefreelancer.microservices.job_proposal.dto.JobUpdateDto;
+import com.thefreelancer.microservices.job_proposal.dto.TermSuggestionDto;
+import com.thefreelancer.microservices.job_proposal.exception.DuplicateJobException;
+import com.thefreelancer.microservices.job_proposal.service.JobBidStatsService;
 import com.thefreelancer.microservices.job_proposal.service.JobService;
 import com.thefreelancer.microservices.job_proposal.model.Job;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,9 +23,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
@@ -28,7 +41,11 @@ import java.util.Optional;
 @Tag(name = "Jobs", description = "Job posting and management operations")
 public class JobController {
     
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    
     private final JobService jobService;
+    private final JobBidStatsService jobBidStatsService;
+    private final ObjectMapper objectMapper;
     
     // ====================
     // PUBLIC DISCOVERY APIs (No authentication required)
@@ -55,28 +72,145 @@ public class JobController {
         }
     }
     
-    @Operation(summary = "Search jobs", description = "Search and filter jobs by various criteria (public endpoint)")
+    @Operation(summary = "Get similar jobs", description = "Open jobs most similar to the given job by skills, category, budget and description (public endpoint)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Similar jobs, most similar first"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/{jobId}/similar")
+    public ResponseEntity<List<JobResponseDto>> getSimilarJobs(
+            @Parameter(description = "ID of the job to compare with") @PathVariable Long jobId,
+            @Parameter(description = "Number of similar jobs (default 10, max 50)") @RequestParam(required = false) Integer k) {
+        log.info("GET /api/jobs/{}/similar - Fetching similar jobs, k: {}", jobId, k);
+        
+        try {
+            Optional<List<JobResponseDto>> similar = jobService.getSimilarJobs(jobId, k);
+            if (similar.isEmpty()) {
+                log.warn("Job not found with ID: {}", jobId);
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(similar.get());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid similar jobs parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @Operation(summary = "Get bid statistics for a job", description = "Number of bids, min/median/max and average bid and average delivery days, kept up to date on every proposal change. The job owner sees exact min and max; everybody else sees estimates within 1%, and only once the job has a few bids")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bid statistics retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/{jobId}/bid-stats")
+    public ResponseEntity<JobBidStatsDto> getBidStats(
+            @Parameter(description = "ID of the job") @PathVariable Long jobId,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        log.info("GET /api/jobs/{}/bid-stats - Fetching bid statistics", jobId);
+        
+        if (userIdHeader == null || userRole == null) {
+            log.warn("Authentication required for bid statistics");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        try {
+            Long userId = Long.parseLong(userIdHeader);
+            Optional<JobBidStatsDto> stats = jobBidStatsService.getBidStats(jobId, userId);
+            if (stats.isEmpty()) {
+                log.warn("Job not found with ID: {}", jobId);
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(stats.get());
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @Operation(summary = "Get my job feed", description = "Open jobs ranked for the authenticated freelancer by skill overlap with their past proposals and contracts, budget fit, urgency and recency (FREELANCER only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed page, best match first"),
+        @ApiResponse(responseCode = "400", description = "Invalid paging parameters"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied - FREELANCER role required")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<List<JobResponseDto>> getMyFeed(
+            @Parameter(description = "Zero-based page number") @RequestParam(required = false, defaultValue = "0") Integer page,
+            @Parameter(description = "Page size (default 20, max 50)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Leave out jobs already sent a proposal to") @RequestParam(required = false, defaultValue = "false") Boolean excludeApplied,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        
+        log.info("GET /api/jobs/feed - Fetching job feed, page: {}, size: {}, excludeApplied: {}", page, size, excludeApplied);
+        
+        if (userIdHeader == null || userRole == null) {
+            log.warn("Authentication required for job feed");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!"FREELANCER".equalsIgnoreCase(userRole)) {
+            log.warn("Access denied: Only freelancers have a job feed. User role: {}", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        try {
+            Long freelancerId = Long.parseLong(userIdHeader);
+            return ResponseEntity.ok(jobService.getFeed(freelancerId, page, size, Boolean.TRUE.equals(excludeApplied)));
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid feed parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @Operation(summary = "Search jobs", description = "Search and filter open jobs one page at a time: newest first, by relevance when q is given, or in the requested sort order (public endpoint)")
     @GetMapping("/search")
-    public ResponseEntity<List<JobResponseDto>> searchJobs(
+    public ResponseEntity<JobSearchPageDto> searchJobs(
+            @Parameter(description = "Free-text query over title and description (results ranked by relevance)") @RequestParam(required = false) String q,
             @Parameter(description = "Category filter") @RequestParam(required = false) String category,
             @Parameter(description = "Minimum budget filter") @RequestParam(required = false) BigInteger minBudget,
             @Parameter(description = "Maximum budget filter") @RequestParam(required = false) BigInteger maxBudget,
             @Parameter(description = "Is urgent filter") @RequestParam(required = false) Boolean isUrgent,
-            @Parameter(description = "Budget type filter (FIXED|HOURLY)") @RequestParam(required = false) String budgetType) {
+            @Parameter(description = "Budget type filter (FIXED|HOURLY)") @RequestParam(required = false) String budgetType,
+            @Parameter(description = "Skills filter (comma separated)") @RequestParam(required = false) List<String> skills,
+            @Parameter(description = "How to combine skills (ANY|ALL, default ANY)") @RequestParam(required = false, defaultValue = "ANY") String skillMatch,
+            @Parameter(description = "Include facet counts for the current filters") @RequestParam(required = false, defaultValue = "false") Boolean facets,
+            @Parameter(description = "Sort order (NEWEST|BUDGET_HIGH|BUDGET_LOW|URGENT); default is relevance with q, otherwise NEWEST") @RequestParam(required = false) String sort,
+            @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Leave out jobs the authenticated freelancer already sent a proposal to") @RequestParam(required = false, defaultValue = "false") Boolean excludeApplied,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
-        log.info("GET /api/jobs/search - Searching jobs with category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}", 
-                category, minBudget, maxBudget, isUrgent, budgetType);
+        log.info("GET /api/jobs/search - Searching jobs with q: '{}', category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}, skills: {} ({}), limit: {}", 
+                q, category, minBudget, maxBudget, isUrgent, budgetType, skills, skillMatch, limit);
 
         try {
-            Job.BudgetType bt = null;
-            if (budgetType != null) {
-                bt = Job.BudgetType.valueOf(budgetType.toUpperCase());
+            JobSearchCriteria criteria = toSearchCriteria(q, category, minBudget, maxBudget, isUrgent,
+                    budgetType, skills, skillMatch);
+            criteria.setIncludeFacets(facets);
+            criteria.setSort(JobSort.fromParameter(sort));
+            criteria.setCursor(cursor);
+            criteria.setLimit(limit);
+            if (Boolean.TRUE.equals(excludeApplied)) {
+                if (userIdHeader == null || userRole == null) {
+                    log.warn("Authentication required for excludeApplied");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                }
+                if (!"FREELANCER".equalsIgnoreCase(userRole)) {
+                    log.warn("Access denied: Only freelancers can exclude applied jobs. User role: {}", userRole);
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                }
+                criteria.setExcludeAppliedBy(Long.parseLong(userIdHeader));
             }
 
-            List<JobResponseDto> jobs = jobService.searchJobs(category, minBudget, maxBudget, isUrgent, bt);
-            return ResponseEntity.ok(jobs);
+            JobSearchPageDto page = jobService.searchJobs(criteria);
+            return ResponseEntity.ok(page);
         } catch (IllegalArgumentException e) {
-            log.warn("Invalid budget type provided: {}", budgetType);
+            log.warn("Invalid search parameters: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             log.warn("Failed to search jobs: {}", e.getMessage());
@@ -84,6 +218,94 @@ public class JobController {
         }
     }
     
+    @Operation(summary = "Export jobs as NDJSON", description = "Stream every open job matching the filters, newest first, one JSON object per line (public endpoint)")
+    @GetMapping(value = "/search", produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @Parameter(description = "Free-text query over title and description") @RequestParam(required = false) String q,
+            @Parameter(description = "Category filter") @RequestParam(required = false) String category,
+            @Parameter(description = "Minimum budget filter") @RequestParam(required = false) BigInteger minBudget,
+            @Parameter(description = "Maximum budget filter") @RequestParam(required = false) BigInteger maxBudget,
+            @Parameter(description = "Is urgent filter") @RequestParam(required = false) Boolean isUrgent,
+            @Parameter(description = "Budget type filter (FIXED|HOURLY)") @RequestParam(required = false) String budgetType,
+            @Parameter(description = "Skills filter (comma separated)") @RequestParam(required = false) List<String> skills,
+            @Parameter(description = "How to combine skills (ANY|ALL, default ANY)") @RequestParam(required = false, defaultValue = "ANY") String skillMatch) {
+
+        log.info("GET /api/jobs/search (ndjson) - Exporting jobs with q: '{}', category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}, skills: {} ({})",
+                q, category, minBudget, maxBudget, isUrgent, budgetType, skills, skillMatch);
+
+        JobSearchCriteria criteria;
+        try {
+            criteria = toSearchCriteria(q, category, minBudget, maxBudget, isUrgent, budgetType, skills, skillMatch);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid export parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        // One JSON document per line, written as the rows come off the database cursor
+        StreamingResponseBody body = outputStream -> jobService.exportJobs(criteria, job -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(job));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(body);
+    }
+    
+    @Operation(summary = "Semantic job search", description = "Find open jobs similar in meaning to a free-text query, most similar first (public endpoint)")
+    @GetMapping("/search/semantic")
+    public ResponseEntity<List<JobResponseDto>> semanticSearchJobs(
+            @Parameter(description = "Free-text query, e.g. 'react dashboard'") @RequestParam String q,
+            @Parameter(description = "Maximum number of results (default 20, max 100)") @RequestParam(required = false) Integer limit) {
+        
+        log.info("GET /api/jobs/search/semantic - Semantic search with q: '{}', limit: {}", q, limit);
+        
+        try {
+            List<JobResponseDto> jobs = jobService.semanticSearch(q, limit);
+            log.info("Semantic search found {} jobs for q: '{}'", jobs.size(), q);
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid semantic search parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @Operation(summary = "Search cache statistics", description = "Hit, miss and eviction counts of the job search and job detail caches")
+    @GetMapping("/search/cache-stats")
+    public ResponseEntity<List<CacheStatsDto>> getSearchCacheStats() {
+        log.info("GET /api/jobs/search/cache-stats - Fetching cache statistics");
+        return ResponseEntity.ok(jobService.getSearchCacheStats());
+    }
+    
+    @Operation(summary = "Suggest skills", description = "Skills starting with the typed prefix, most used by open jobs first (public endpoint)")
+    @GetMapping("/skills/suggest")
+    public ResponseEntity<List<TermSuggestionDto>> suggestSkills(
+            @Parameter(description = "What the user has typed so far") @RequestParam(required = false, defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of suggestions (default 10, max 50)") @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(jobService.suggestSkills(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid skill suggest parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @Operation(summary = "Suggest categories", description = "Categories starting with the typed prefix, most used by open jobs first (public endpoint)")
+    @GetMapping("/categories/suggest")
+    public ResponseEntity<List<TermSuggestionDto>> suggestCategories(
+            @Parameter(description = "What the user has typed so far") @RequestParam(required = false, defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of suggestions (default 10, max 50)") @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(jobService.suggestCategories(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid category suggest parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @Operation(summary = "Get jobs by user", description = "Get all public jobs posted by a specific user (for portfolio view)")
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<JobResponseDto>> getUserJobs(
@@ -101,6 +323,7 @@ public class JobController {
     @Operation(summary = "Create new job", description = "Post a new job (CLIENT role required)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Job created successfully"),
+        @ApiResponse(responseCode = "409", description = "Near duplicate of an open job of the same client (when jobs.duplicates.reject=true)"),
         @ApiResponse(responseCode = "401", description = "Authentication required"),
         @ApiResponse(responseCode = "403", description = "Only CLIENTs can create jobs"),
         @ApiResponse(responseCode = "400", description = "Invalid job data")
@@ -137,6 +360,9 @@ public class JobController {
         } catch (NumberFormatException e) {
             log.error("Invalid user ID format: {}", userIdHeader);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (DuplicateJobException e) {
+            log.warn("Rejected duplicate job: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.warn("Failed to create job: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -147,11 +373,12 @@ public class JobController {
     @GetMapping("/my-jobs")
     public ResponseEntity<List<JobResponseDto>> getMyJobs(
             @Parameter(description = "Optional status filter") @RequestParam(required = false) String status,
+            @Parameter(description = "Sort order (NEWEST|BUDGET_HIGH|BUDGET_LOW|URGENT)") @RequestParam(required = false) String sort,
             @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
             @RequestHeader(value = "X-User-Email", required = false) String userEmail,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
         
-        log.info("GET /api/jobs/my-jobs - Fetching authenticated client's jobs with status: {}", status);
+        log.info("GET /api/jobs/my-jobs - Fetching authenticated client's jobs with status: {}, sort: {}", status, sort);
         
         if (userIdHeader == null) {
             log.warn("Authentication required for my-jobs endpoint");
@@ -160,7 +387,7 @@ public class JobController {
         
         try {
             Long authenticatedUserId = Long.parseLong(userIdHeader);
-            List<JobResponseDto> myJobs = jobService.getJobsByClientId(authenticatedUserId);
+            List<JobResponseDto> myJobs = jobService.getJobsByClientId(authenticatedUserId, JobSort.fromParameter(sort));
             log.info("Found {} jobs for authenticated client: {}", myJobs.size(), authenticatedUserId);
             return ResponseEntity.ok(myJobs);
         } catch (NumberFormatException e) {
@@ -248,4 +475,27 @@ public class JobController {
             return ResponseEntity.badRequest().build();
         }
     }
+    
+    private JobSearchCriteria toSearchCriteria(String q, String category, BigInteger minBudget, BigInteger maxBudget,
+                                               Boolean isUrgent, String budgetType, List<String> skills,
+                                               String skillMatch) {
+        Job.BudgetType bt = null;
+        if (budgetType != null) {
+            bt = Job.BudgetType.valueOf(budgetType.toUpperCase());
+        }
+        if (!"ANY".equalsIgnoreCase(skillMatch) && !"ALL".equalsIgnoreCase(skillMatch)) {
+            throw new IllegalArgumentException("skillMatch must be ANY or ALL");
+        }
+
+        return JobSearchCriteria.builder()
+                .q(q)
+                .category(category)
+                .minBudget(minBudget)
+                .maxBudget(maxBudget)
+                .isUrgent(isUrgent)
+                .budgetType(bt)
+                .skills(skills)
+                .matchAllSkills("ALL".equalsIgnoreCase(skillMatch))
+                .build();
+    }
 }
@@ -1,8 +1,11 @@
 package com.thefreelancer.microservices.job_proposal.controller;
 
 import com.thefreelancer.microservices.job_proposal.dto.ProposalCreateDto;
+import com.thefreelancer.microservices.job_proposal.dto.ProposalPageDto;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.ProposalSort;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalUpdateDto;
+import com.thefreelancer.microservices.job_proposal.dto.RankedProposalDto;
 import com.thefreelancer.microservices.job_proposal.service.ProposalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,15 +33,18 @@ public class ProposalController {
     
     // ============== FREELANCER SECURE ENDPOINTS ==============
     
-    @Operation(summary = "Get my submitted proposals", description = "Get all proposals submitted by the authenticated freelancer")
+    @Operation(summary = "Get my submitted proposals", description = "Get the proposals submitted by the authenticated freelancer one page at a time, newest first")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Proposals retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
         @ApiResponse(responseCode = "401", description = "Authentication required"),
         @ApiResponse(responseCode = "403", description = "Access denied - FREELANCER role required")
     })
     @GetMapping("/my-proposals")
-    public ResponseEntity<List<ProposalResponseDto>> getMyProposals(
+    public ResponseEntity<ProposalPageDto> getMyProposals(
             @RequestParam(required = false) String status,
+            @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
             @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
             @RequestHeader(value = "X-User-Email", required = false) String userEmail,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
@@ -59,8 +65,8 @@ public class ProposalController {
         
         try {
             Long authenticatedUserId = Long.parseLong(userIdHeader);
-            List<ProposalResponseDto> myProposals = proposalService.getMyProposals(authenticatedUserId, status);
-            log.info("Found {} proposals for authenticated freelancer: {}", myProposals.size(), authenticatedUserId);
+            ProposalPageDto myProposals = proposalService.getMyProposals(authenticatedUserId, status, cursor, limit);
+            log.info("Found {} proposals for authenticated freelancer: {}", myProposals.getItems().size(), authenticatedUserId);
             return ResponseEntity.ok(myProposals);
         } catch (NumberFormatException e) {
             log.error("Invalid user ID format: {}", userIdHeader);
@@ -262,21 +268,25 @@ public class ProposalController {
         }
     }
     
-    @Operation(summary = "Get all proposals for a job", description = "Get all proposals submitted for a specific job (CLIENT access)")
+    @Operation(summary = "Get proposals for a job", description = "Get the proposals submitted for a specific job one page at a time, newest first or in the requested sort order (CLIENT access)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Proposals retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid sort, cursor or limit"),
         @ApiResponse(responseCode = "401", description = "Authentication required"),
         @ApiResponse(responseCode = "403", description = "Access denied - CLIENT role required"),
         @ApiResponse(responseCode = "404", description = "Job not found")
     })
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<List<ProposalResponseDto>> getProposalsForJob(
+    public ResponseEntity<ProposalPageDto> getProposalsForJob(
             @Parameter(description = "ID of the job to get proposals for") @PathVariable Long jobId,
+            @Parameter(description = "Sort order (NEWEST|PRICE_LOW|FASTEST, default NEWEST)") @RequestParam(required = false) String sort,
+            @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
             @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
             @RequestHeader(value = "X-User-Email", required = false) String userEmail,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
         
-        log.info("GET /api/proposals/job/{} - Fetching all proposals for job", jobId);
+        log.info("GET /api/proposals/job/{} - Fetching proposals for job (sort: {}, limit: {})", jobId, sort, limit);
         
         // Check authentication
         if (userIdHeader == null || userRole == null) {
@@ -294,16 +304,70 @@ public class ProposalController {
             Long authenticatedUserId = Long.parseLong(userIdHeader);
             
             // Get proposals for the job (service will validate job ownership)
-            List<ProposalResponseDto> proposals = proposalService.getProposalsForJobByClient(jobId, authenticatedUserId);
+            ProposalPageDto page = proposalService.getProposalsForJobByClient(jobId, authenticatedUserId,
+                    ProposalSort.fromParameter(sort), cursor, limit);
             
-            log.info("Found {} proposals for job: {} for client: {}", proposals.size(), jobId, authenticatedUserId);
-            return ResponseEntity.ok(proposals);
+            log.info("Found {} proposals for job: {} for client: {}", page.getItems().size(), jobId, authenticatedUserId);
+            return ResponseEntity.ok(page);
         } catch (NumberFormatException e) {
             log.error("Invalid user ID format: {}", userIdHeader);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid proposal listing parameters for job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (RuntimeException e) {
             log.error("Error fetching proposals for job {}: {}", jobId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    @Operation(summary = "Get a ranked shortlist of proposals for a job", description = "Get the best open proposals for a job, scored on price fit against the job budget, delivery time, milestone completeness and the freelancer's completed contracts (CLIENT access)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranked proposals retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid k"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied - CLIENT role required"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/job/{jobId}/ranked")
+    public ResponseEntity<List<RankedProposalDto>> getRankedProposalsForJob(
+            @Parameter(description = "ID of the job to rank proposals for") @PathVariable Long jobId,
+            @Parameter(description = "Number of proposals to return (default 10, max 50)") @RequestParam(required = false) Integer k,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Email", required = false) String userEmail,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        
+        log.info("GET /api/proposals/job/{}/ranked - Ranking proposals for job (k: {})", jobId, k);
+        
+        // Check authentication
+        if (userIdHeader == null || userRole == null) {
+            log.warn("Authentication required for ranking job proposals");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        // Check authorization - only clients can rank proposals for their jobs
+        if (!"CLIENT".equalsIgnoreCase(userRole)) {
+            log.warn("Access denied: Only clients can rank proposals for jobs. User role: {}", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        try {
+            Long authenticatedUserId = Long.parseLong(userIdHeader);
+            
+            // Rank proposals for the job (service will validate job ownership)
+            List<RankedProposalDto> ranked = proposalService.getRankedProposalsForJob(jobId, authenticatedUserId, k);
+            
+            log.info("Ranked {} proposals for job: {} for client: {}", ranked.size(), jobId, authenticatedUserId);
+            return ResponseEntity.ok(ranked);
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid ranking parameters for job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            log.error("Error ranking proposals for job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
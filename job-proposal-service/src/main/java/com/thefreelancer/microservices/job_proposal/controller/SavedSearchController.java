@@ -0,0 +1,123 @@
+package com.thefreelancer.microservices.job_proposal.controller;
+
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchCreateDto;
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchResponseDto;
+import com.thefreelancer.microservices.job_proposal.exception.ResourceNotFoundException;
+import com.thefreelancer.microservices.job_proposal.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Saved searches", description = "Job filters freelancers are notified about when matching jobs open")
+public class SavedSearchController {
+    
+    private final SavedSearchService savedSearchService;
+    
+    @Operation(summary = "Save a search", description = "Store job filters; new OPEN jobs that match them are reported (FREELANCER only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Saved search created"),
+        @ApiResponse(responseCode = "400", description = "Invalid filters"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied - FREELANCER role required")
+    })
+    @PostMapping
+    public ResponseEntity<SavedSearchResponseDto> createSavedSearch(
+            @Valid @RequestBody SavedSearchCreateDto createDto,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        
+        log.info("POST /api/saved-searches - Creating saved search");
+        
+        ResponseEntity<SavedSearchResponseDto> denied = checkFreelancer(userIdHeader, userRole);
+        if (denied != null) {
+            return denied;
+        }
+        
+        try {
+            Long authenticatedUserId = Long.parseLong(userIdHeader);
+            SavedSearchResponseDto savedSearch = savedSearchService.createSavedSearch(createDto, authenticatedUserId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(savedSearch);
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            log.warn("Failed to create saved search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @Operation(summary = "Get my saved searches", description = "List the authenticated freelancer's saved searches, newest first")
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponseDto>> getMySavedSearches(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        
+        log.info("GET /api/saved-searches - Fetching saved searches");
+        
+        ResponseEntity<List<SavedSearchResponseDto>> denied = checkFreelancer(userIdHeader, userRole);
+        if (denied != null) {
+            return denied;
+        }
+        
+        try {
+            Long authenticatedUserId = Long.parseLong(userIdHeader);
+            return ResponseEntity.ok(savedSearchService.getSavedSearches(authenticatedUserId));
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @Operation(summary = "Delete a saved search", description = "Delete one of the authenticated freelancer's saved searches")
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @Parameter(description = "ID of the saved search to delete") @PathVariable Long savedSearchId,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        
+        log.info("DELETE /api/saved-searches/{} - Deleting saved search", savedSearchId);
+        
+        ResponseEntity<Void> denied = checkFreelancer(userIdHeader, userRole);
+        if (denied != null) {
+            return denied;
+        }
+        
+        try {
+            Long authenticatedUserId = Long.parseLong(userIdHeader);
+            savedSearchService.deleteSavedSearch(savedSearchId, authenticatedUserId);
+            return ResponseEntity.noContent().build();
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (ResourceNotFoundException e) {
+            log.warn("Saved search {} not found: {}", savedSearchId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    private <T> ResponseEntity<T> checkFreelancer(String userIdHeader, String userRole) {
+        if (userIdHeader == null || userRole == null) {
+            log.warn("Authentication required for saved searches");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!"FREELANCER".equalsIgnoreCase(userRole)) {
+            log.warn("Access denied: Only freelancers can manage saved searches. User role: {}", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return null;
+    }
+}
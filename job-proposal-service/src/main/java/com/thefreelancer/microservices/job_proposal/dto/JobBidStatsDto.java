@@ -0,0 +1,22 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobBidStatsDto {
+    private Long jobId;
+    private int bidCount;
+    private BigInteger minBidCents;     // null without bids, or while too few bids to anonymize
+    private BigInteger medianBidCents;
+    private BigInteger maxBidCents;
+    private BigInteger averageBidCents;
+    private Double averageDeliveryDays;
+}
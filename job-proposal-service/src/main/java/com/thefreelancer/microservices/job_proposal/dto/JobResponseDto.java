@@ -1,5 +1,6 @@
 package com.thefreelancer.microservices.job_proposal.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -28,4 +29,9 @@ public class JobResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime editedAt;
+    private ProposalCountsDto proposalCounts;
+    
+    // Set on create when the client has a near-identical OPEN job
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long possibleDuplicateOfJobId;
 }
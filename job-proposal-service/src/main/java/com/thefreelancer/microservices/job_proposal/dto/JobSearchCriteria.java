@@ -0,0 +1,46 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Filters and paging parameters for the public job search
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchCriteria {
+    
+    // Free-text query over projectName and description; results are then ordered by relevance
+    private String q;
+    
+    // Explicit ordering; null means by relevance with q, otherwise newest first
+    private JobSort sort;
+    
+    private String category;
+    private BigInteger minBudget;
+    private BigInteger maxBudget;
+    private Boolean isUrgent;
+    private Job.BudgetType budgetType;
+    
+    // Skill filter, answered from the in-memory skill index
+    private List<String> skills;
+    private Boolean matchAllSkills; // true = job must have every skill, otherwise any of them
+    
+    // Also return facet counts (categories, budget types, urgency, top skills)
+    private Boolean includeFacets;
+    
+    // Freelancer whose applied-to jobs are left out of the results (null keeps them)
+    private Long excludeAppliedBy;
+    
+    // Opaque cursor returned as nextCursor by the previous page (null for the first page)
+    private String cursor;
+    private Integer limit;
+}
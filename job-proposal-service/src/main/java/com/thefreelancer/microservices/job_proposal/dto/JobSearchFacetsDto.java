@@ -0,0 +1,20 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Open-job counts per facet value for the current search filters, highest count first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchFacetsDto {
+    private Map<String, Integer> categories;
+    private Map<String, Integer> budgetTypes; // FIXED, HOURLY
+    private Map<String, Integer> urgency;     // "true" / "false"
+    private Map<String, Integer> skills;      // top skills only
+}
@@ -0,0 +1,19 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchPageDto {
+    private List<JobResponseDto> items;
+    private String nextCursor; // null when there are no more results
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private JobSearchFacetsDto facets; // only when requested
+}
@@ -0,0 +1,27 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import java.util.Locale;
+
+/**
+ * Explicit orderings of job lists. Every ordering ends with the job id so pages
+ * can be cut with a keyset cursor; ids follow creation order.
+ */
+public enum JobSort {
+    NEWEST,      // createdAt DESC, id DESC
+    BUDGET_HIGH, // maxBudgetCents DESC (jobs without a budget last), id DESC
+    BUDGET_LOW,  // maxBudgetCents ASC (jobs without a budget last), id ASC
+    URGENT;      // urgent jobs first, then newest first
+    
+    /**
+     * Parse a request parameter such as {@code budget_high} or {@code budget-high}
+     *
+     * @return null for a missing parameter
+     * @throws IllegalArgumentException for an unknown ordering
+     */
+    public static JobSort fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,17 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProposalCountsDto {
+    private Integer total;
+    private Integer submitted;
+    private Integer withdrawn;
+    private Integer declined;
+    private Integer accepted;
+    private Integer contracted;
+}
@@ -0,0 +1,15 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProposalPageDto {
+    private List<ProposalResponseDto> items;
+    private String nextCursor; // null when there are no more results
+}
@@ -0,0 +1,26 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import java.util.Locale;
+
+/**
+ * Orderings of the proposals of one job. Every ordering ends with the proposal id
+ * so pages can be cut with a keyset cursor.
+ */
+public enum ProposalSort {
+    NEWEST,    // createdAt DESC, id DESC
+    PRICE_LOW, // totalCents ASC (proposals without a price last), id ASC
+    FASTEST;   // deliveryDays ASC (proposals without delivery days last), id ASC
+    
+    /**
+     * Parse a request parameter such as {@code price_low} or {@code price-low}
+     *
+     * @return null for a missing parameter
+     * @throws IllegalArgumentException for an unknown ordering
+     */
+    public static ProposalSort fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
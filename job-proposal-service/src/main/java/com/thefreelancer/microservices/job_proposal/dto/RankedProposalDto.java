@@ -0,0 +1,18 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedProposalDto {
+    private ProposalResponseDto proposal;
+    private double score; // weighted sum of the signals below, each in [0, 1]
+    private double priceFit;
+    private double deliverySpeed;
+    private double milestoneCompleteness;
+    private double trackRecord;
+    private int completedContracts;
+}
@@ -0,0 +1,37 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchCreateDto {
+    
+    // freelancerId comes from authentication headers
+    
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+    
+    @Size(max = 20, message = "A saved search can have at most 20 skills")
+    private List<String> skills;
+    
+    private String category;
+    
+    @Positive(message = "Minimum budget must be positive")
+    private BigInteger minBudgetCents;
+    
+    @Positive(message = "Maximum budget must be positive")
+    private BigInteger maxBudgetCents;
+    
+    private Job.BudgetType budgetType;
+    
+    private Boolean isUrgent;
+}
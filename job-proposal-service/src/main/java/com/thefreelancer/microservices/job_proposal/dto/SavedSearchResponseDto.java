@@ -0,0 +1,25 @@
+package com.thefreelancer.microservices.job_proposal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResponseDto {
+    private Long id;
+    private Long freelancerId;
+    private String name;
+    private List<String> skills;
+    private String category;
+    private BigInteger minBudgetCents;
+    private BigInteger maxBudgetCents;
+    private String budgetType;
+    private Boolean isUrgent;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import com.thefreelancer.microservices.job_proposal.model.Contract;
+import lombok.Value;
+
+/**
+ * Published when a contract is created or changes status. Listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)}.
+ */
+@Value
+public class ContractChangedEvent {
+    
+    Long contractId;
+    Long jobId;
+    Long proposalId;
+    Long clientId;
+    Long freelancerId;
+    Contract.ContractStatus previousStatus; // null when the contract was just created
+    Contract.ContractStatus status;
+    
+    public static ContractChangedEvent of(Contract contract, Contract.ContractStatus previousStatus) {
+        return new ContractChangedEvent(contract.getId(),
+                contract.getJob() != null ? contract.getJob().getId() : null,
+                contract.getProposal() != null ? contract.getProposal().getId() : null,
+                contract.getClientId(), contract.getFreelancerId(), previousStatus, contract.getStatus());
+    }
+    
+    public boolean isCreated() {
+        return previousStatus == null;
+    }
+}
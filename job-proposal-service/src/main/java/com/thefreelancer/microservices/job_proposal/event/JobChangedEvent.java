@@ -0,0 +1,52 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import lombok.Value;
+
+/**
+ * Published whenever a job is created, changed or removed so that in-memory
+ * search structures can follow along. Listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only
+ * see committed changes.
+ */
+@Value
+public class JobChangedEvent {
+    
+    public enum Type {
+        LOADED,   // replayed from the database at startup
+        CREATED,
+        UPDATED,
+        REMOVED
+    }
+    
+    Type type;
+    JobSnapshot previous; // null for LOADED and CREATED
+    JobSnapshot current;
+    
+    public static JobChangedEvent loaded(JobSnapshot current) {
+        return new JobChangedEvent(Type.LOADED, null, current);
+    }
+    
+    public static JobChangedEvent created(JobSnapshot current) {
+        return new JobChangedEvent(Type.CREATED, null, current);
+    }
+    
+    public static JobChangedEvent updated(JobSnapshot previous, JobSnapshot current) {
+        return new JobChangedEvent(Type.UPDATED, previous, current);
+    }
+    
+    public static JobChangedEvent removed(JobSnapshot previous, JobSnapshot current) {
+        return new JobChangedEvent(Type.REMOVED, previous, current);
+    }
+    
+    public Long getJobId() {
+        return current.getId();
+    }
+    
+    public boolean wasOpen() {
+        return previous != null && previous.isOpen();
+    }
+    
+    public boolean isOpen() {
+        return current.isOpen();
+    }
+}
@@ -0,0 +1,57 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the searchable fields of a {@link Job}.
+ * Safe to hand to listeners that run after the persistence context is gone.
+ */
+@Value
+@Builder
+public class JobSnapshot {
+    
+    Long id;
+    Long clientId;
+    String projectName;
+    String description;
+    String category;
+    List<String> skills;
+    Job.BudgetType budgetType;
+    BigInteger minBudgetCents;
+    BigInteger maxBudgetCents;
+    boolean urgent;
+    Job.JobStatus status;
+    LocalDateTime createdAt;
+    
+    public static JobSnapshot from(Job job) {
+        List<String> skills = job.getSkills() == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(job.getSkills()));
+        return JobSnapshot.builder()
+                .id(job.getId())
+                .clientId(job.getClientId())
+                .projectName(job.getProjectName())
+                .description(job.getDescription())
+                .category(job.getCategory())
+                .skills(skills)
+                .budgetType(job.getBudgetType())
+                .minBudgetCents(job.getMinBudgetCents())
+                .maxBudgetCents(job.getMaxBudgetCents())
+                .urgent(Boolean.TRUE.equals(job.getIsUrgent()))
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+    
+    public boolean isOpen() {
+        return status == Job.JobStatus.OPEN;
+    }
+}
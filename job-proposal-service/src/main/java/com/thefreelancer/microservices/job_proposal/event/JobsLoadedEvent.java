@@ -0,0 +1,14 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import lombok.Value;
+
+/**
+ * Published once the startup replay of OPEN jobs has finished, after the last
+ * {@link JobChangedEvent.Type#LOADED} event. Consumers should use a plain
+ * {@code @EventListener}.
+ */
+@Value
+public class JobsLoadedEvent {
+    
+    int loaded;
+}
@@ -0,0 +1,46 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import lombok.Value;
+
+/**
+ * Published whenever a proposal is created, changed or deleted. Like
+ * {@link JobChangedEvent}, listeners should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)}.
+ */
+@Value
+public class ProposalChangedEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+    
+    Type type;
+    ProposalSnapshot previous; // null for CREATED
+    ProposalSnapshot current;  // null for DELETED
+    
+    public static ProposalChangedEvent created(ProposalSnapshot current) {
+        return new ProposalChangedEvent(Type.CREATED, null, current);
+    }
+    
+    public static ProposalChangedEvent updated(ProposalSnapshot previous, ProposalSnapshot current) {
+        return new ProposalChangedEvent(Type.UPDATED, previous, current);
+    }
+    
+    public static ProposalChangedEvent deleted(ProposalSnapshot previous) {
+        return new ProposalChangedEvent(Type.DELETED, previous, null);
+    }
+    
+    public ProposalSnapshot getLatest() {
+        return current != null ? current : previous;
+    }
+    
+    public Long getJobId() {
+        return getLatest().getJobId();
+    }
+    
+    public Long getFreelancerId() {
+        return getLatest().getFreelancerId();
+    }
+}
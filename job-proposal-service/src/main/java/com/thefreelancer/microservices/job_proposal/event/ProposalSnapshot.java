@@ -0,0 +1,36 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the fields of a {@link Proposal} that derived read models need
+ */
+@Value
+@Builder
+public class ProposalSnapshot {
+    
+    Long id;
+    Long jobId;
+    Long freelancerId;
+    BigInteger totalCents;
+    Integer deliveryDays;
+    Proposal.ProposalStatus status;
+    LocalDateTime createdAt;
+    
+    public static ProposalSnapshot from(Proposal proposal) {
+        return ProposalSnapshot.builder()
+                .id(proposal.getId())
+                .jobId(proposal.getJob() != null ? proposal.getJob().getId() : null)
+                .freelancerId(proposal.getFreelancerId())
+                .totalCents(proposal.getTotalCents())
+                .deliveryDays(proposal.getDeliveryDays())
+                .status(proposal.getStatus())
+                .createdAt(proposal.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import lombok.Value;
+
+/**
+ * Published when a saved search is created or deleted so that the percolator
+ * index can follow along.
+ */
+@Value
+public class SavedSearchChangedEvent {
+    
+    Long savedSearchId;
+    SavedSearchSnapshot current; // null when deleted
+    
+    public static SavedSearchChangedEvent saved(SavedSearchSnapshot current) {
+        return new SavedSearchChangedEvent(current.getId(), current);
+    }
+    
+    public static SavedSearchChangedEvent deleted(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, null);
+    }
+}
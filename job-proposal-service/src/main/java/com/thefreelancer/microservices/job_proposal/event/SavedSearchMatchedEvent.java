@@ -0,0 +1,15 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import lombok.Value;
+
+/**
+ * A newly OPEN job matched a freelancer's saved search. Published after the
+ * job change has committed, so consumers should use a plain {@code @EventListener}.
+ */
+@Value
+public class SavedSearchMatchedEvent {
+    
+    Long savedSearchId;
+    Long freelancerId;
+    Long jobId;
+}
@@ -0,0 +1,44 @@
+package com.thefreelancer.microservices.job_proposal.event;
+
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.model.SavedSearch;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the filters of a {@link SavedSearch}
+ */
+@Value
+@Builder
+public class SavedSearchSnapshot {
+    
+    Long id;
+    Long freelancerId;
+    List<String> skills;
+    String category;
+    BigInteger minBudgetCents;
+    BigInteger maxBudgetCents;
+    Job.BudgetType budgetType;
+    Boolean urgent; // null = either
+    
+    public static SavedSearchSnapshot from(SavedSearch savedSearch) {
+        List<String> skills = savedSearch.getSkills() == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(savedSearch.getSkills()));
+        return SavedSearchSnapshot.builder()
+                .id(savedSearch.getId())
+                .freelancerId(savedSearch.getFreelancerId())
+                .skills(skills)
+                .category(savedSearch.getCategory())
+                .minBudgetCents(savedSearch.getMinBudgetCents())
+                .maxBudgetCents(savedSearch.getMaxBudgetCents())
+                .budgetType(savedSearch.getBudgetType())
+                .urgent(savedSearch.getIsUrgent())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.thefreelancer.microservices.job_proposal.exception;
+
+public class DuplicateJobException extends RuntimeException {
+    
+    private final Long duplicateOfJobId;
+    
+    public DuplicateJobException(Long duplicateOfJobId) {
+        super("Job is a near duplicate of job " + duplicateOfJobId);
+        this.duplicateOfJobId = duplicateOfJobId;
+    }
+    
+    public Long getDuplicateOfJobId() {
+        return duplicateOfJobId;
+    }
+}
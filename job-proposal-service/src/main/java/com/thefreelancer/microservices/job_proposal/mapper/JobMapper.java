@@ -27,6 +27,7 @@ public interface JobMapper {
     @Mapping(target = "attachments", ignore = true)
     @Mapping(target = "proposals", ignore = true)
     @Mapping(target = "invites", ignore = true)
+    @Mapping(target = "proposalCounts", ignore = true)
     Job toEntity(JobCreateDto createDto);
     
     @Mapping(target = "id", ignore = true)
@@ -36,6 +37,7 @@ public interface JobMapper {
     @Mapping(target = "attachments", ignore = true)
     @Mapping(target = "proposals", ignore = true)
     @Mapping(target = "invites", ignore = true)
+    @Mapping(target = "proposalCounts", ignore = true)
     void updateEntityFromDto(JobUpdateDto updateDto, @MappingTarget Job job);
     
     @Named("budgetTypeToString")
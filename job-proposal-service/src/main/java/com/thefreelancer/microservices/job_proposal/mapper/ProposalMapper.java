@@ -5,6 +5,7 @@ import com.thefreelancer.microservices.job_proposal.dto.ProposalResponseDto;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalUpdateDto;
 import com.thefreelancer.microservices.job_proposal.model.Job;
 import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
 import org.mapstruct.*;
 import org.springframework.stereotype.Component;
 
@@ -33,6 +34,12 @@ public interface ProposalMapper {
     @Mapping(target = "submittedAt", source = "createdAt")
     ProposalResponseDto toResponseDto(Proposal entity);
     
+    @Mapping(target = "proposedRate", source = "totalCents", qualifiedByName = "centsToRate")
+    @Mapping(target = "coverLetter", source = "cover")
+    @Mapping(target = "freelancerName", constant = "Unknown") // TODO: Get from user service
+    @Mapping(target = "submittedAt", source = "createdAt")
+    ProposalResponseDto toResponseDto(ProposalRepository.ProposalSummary summary);
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "job", ignore = true)
     @Mapping(target = "freelancerId", ignore = true)
@@ -0,0 +1,23 @@
+package com.thefreelancer.microservices.job_proposal.mapper;
+
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchCreateDto;
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchResponseDto;
+import com.thefreelancer.microservices.job_proposal.model.SavedSearch;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface SavedSearchMapper {
+    
+    SavedSearchResponseDto toResponseDto(SavedSearch savedSearch);
+    
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "freelancerId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    SavedSearch toEntity(SavedSearchCreateDto createDto);
+}
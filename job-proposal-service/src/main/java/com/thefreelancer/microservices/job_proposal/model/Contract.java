@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "contracts")
+@Table(name = "contracts", indexes = {
+    @Index(name = "idx_contracts_freelancer_id_status", columnList = "freelancer_id, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +14,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_status_created_at_id", columnList = "status, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -59,6 +62,7 @@ public class Job {
     @ElementCollection
     @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "skill")
+    @BatchSize(size = 128) // one query initializes the skills of a whole search page (max 100 + look-ahead row)
     private java.util.List<String> skills;
 
 
@@ -82,6 +86,11 @@ public class Job {
     @Column(name = "edited_at")
     private LocalDateTime editedAt;
     
+    // Maintained by ProposalCountService, never written through this entity
+    @Embedded
+    @Builder.Default
+    private ProposalCounts proposalCounts = new ProposalCounts();
+    
     // Relationships
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<JobAttachment> attachments;
@@ -0,0 +1,54 @@
+package com.thefreelancer.microservices.job_proposal.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * Running aggregates of the live (not withdrawn) bids on one job, maintained on
+ * every proposal write so bid statistics never scan the proposals table.
+ * The quantiles come from {@code bidSketch}, a serialized BidSketch.
+ */
+@Entity
+@Table(name = "job_bid_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobBidStats {
+    
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+    
+    @Column(name = "bid_count", nullable = false)
+    private int bidCount;
+    
+    @Column(name = "total_cents_sum", nullable = false)
+    private BigInteger totalCentsSum;
+    
+    @Column(name = "min_bid_cents")
+    private BigInteger minBidCents;
+    
+    @Column(name = "max_bid_cents")
+    private BigInteger maxBidCents;
+    
+    @Column(name = "delivery_days_sum", nullable = false)
+    private long deliveryDaysSum;
+    
+    @Column(name = "delivery_days_count", nullable = false)
+    private int deliveryDaysCount; // bids that state their delivery days
+    
+    @Column(name = "bid_sketch")
+    private byte[] bidSketch;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
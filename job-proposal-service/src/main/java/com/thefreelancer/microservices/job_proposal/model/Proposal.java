@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "proposals")
+@Table(name = "proposals", indexes = {
+    @Index(name = "idx_proposals_job_id_created_at_id", columnList = "job_id, created_at, id"),
+    @Index(name = "idx_proposals_freelancer_id_created_at_id", columnList = "freelancer_id, created_at, id"),
+    @Index(name = "idx_proposals_freelancer_id_status_created_at_id", columnList = "freelancer_id, status, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,48 @@
+package com.thefreelancer.microservices.job_proposal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Denormalized proposal counters of a job, stored on the jobs row so every job
+ * read carries them for free.
+ * <p>
+ * The columns are read-only for Hibernate: they only change through the atomic
+ * increments in {@code JobRepository#adjustProposalCounts}, so saving a Job that
+ * was loaded earlier can never overwrite a newer count.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProposalCounts {
+    
+    @Column(name = "proposal_count", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer total = 0;
+    
+    @Column(name = "proposals_submitted", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer submitted = 0;
+    
+    @Column(name = "proposals_withdrawn", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer withdrawn = 0;
+    
+    @Column(name = "proposals_declined", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer declined = 0;
+    
+    @Column(name = "proposals_accepted", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer accepted = 0;
+    
+    @Column(name = "proposals_contracted", columnDefinition = "integer not null default 0", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer contracted = 0;
+}
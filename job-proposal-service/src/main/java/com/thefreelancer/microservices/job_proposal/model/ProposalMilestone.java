@@ -13,7 +13,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "proposal_milestones")
+@Table(name = "proposal_milestones", indexes = {
+    @Index(name = "idx_proposal_milestones_proposal_id", columnList = "proposal_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,69 @@
+package com.thefreelancer.microservices.job_proposal.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Job filters a freelancer wants to be notified about. Null filters match anything.
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+    @Index(name = "idx_saved_searches_freelancer_id", columnList = "freelancer_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "freelancer_id", nullable = false)
+    private Long freelancerId;
+    
+    @Column
+    private String name;
+    
+    // A job matches if it has any of these skills
+    @ElementCollection
+    @CollectionTable(name = "saved_search_skills", joinColumns = @JoinColumn(name = "saved_search_id"))
+    @Column(name = "skill")
+    @BatchSize(size = 128)
+    private List<String> skills;
+    
+    @Column
+    private String category;
+    
+    @Column(name = "min_budget_cents")
+    private BigInteger minBudgetCents;
+    
+    @Column(name = "max_budget_cents")
+    private BigInteger maxBudgetCents;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "budget_type")
+    private Job.BudgetType budgetType;
+    
+    @Column(name = "is_urgent")
+    private Boolean isUrgent;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
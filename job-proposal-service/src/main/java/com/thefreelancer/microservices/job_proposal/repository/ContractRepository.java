@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,4 +64,24 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
      * Check if a contract exists for a proposal
      */
     boolean existsByProposalId(Long proposalId);
+    
+    /**
+     * Ids of the jobs a freelancer has been contracted for
+     */
+    @Query("SELECT c.job.id FROM Contract c WHERE c.freelancerId = :freelancerId")
+    List<Long> findJobIdsByFreelancerId(@Param("freelancerId") Long freelancerId);
+    
+    /**
+     * Number of contracts in the given status per freelancer, for many freelancers at once.
+     * Freelancers without such contracts are left out.
+     */
+    @Query("SELECT c.freelancerId AS freelancerId, COUNT(c) AS contracts FROM Contract c " +
+           "WHERE c.freelancerId IN :freelancerIds AND c.status = :status GROUP BY c.freelancerId")
+    List<FreelancerContractCount> countByFreelancerIdsAndStatus(@Param("freelancerIds") Collection<Long> freelancerIds,
+                                                                @Param("status") Contract.ContractStatus status);
+    
+    interface FreelancerContractCount {
+        Long getFreelancerId();
+        Long getContracts();
+    }
 }
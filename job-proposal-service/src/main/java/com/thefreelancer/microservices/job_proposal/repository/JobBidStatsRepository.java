@@ -0,0 +1,34 @@
+package com.thefreelancer.microservices.job_proposal.repository;
+
+import com.thefreelancer.microservices.job_proposal.model.JobBidStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobBidStatsRepository extends JpaRepository<JobBidStats, Long> {
+    
+    /**
+     * Create the empty stats row of a job unless it exists. Safe under concurrent
+     * first bids: exactly one caller gets 1 back.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_bid_stats (job_id, bid_count, total_cents_sum, delivery_days_sum, delivery_days_count)" +
+                   " VALUES (:jobId, 0, 0, 0, 0) ON CONFLICT (job_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jobId") Long jobId);
+    
+    /**
+     * The stats row, locked until the end of the transaction so concurrent bids
+     * apply their changes one after another
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM JobBidStats s WHERE s.jobId = :jobId")
+    Optional<JobBidStats> findForUpdate(@Param("jobId") Long jobId);
+}
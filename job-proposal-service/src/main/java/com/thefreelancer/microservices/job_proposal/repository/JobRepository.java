@@ -1,23 +1,42 @@
 package com.thefreelancer.microservices.job_proposal.repository;
 
 import com.thefreelancer.microservices.job_proposal.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigInteger;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
     
+    // Unpaged lists fetch skills in the same query; paged queries rely on the batch size on Job.skills
+    @EntityGraph(attributePaths = "skills")
     List<Job> findByClientId(Long clientId);
     
+    // Each ordering used by my-jobs has a matching (client_id, ...) index in schema.sql
+    @EntityGraph(attributePaths = "skills")
+    List<Job> findByClientId(Long clientId, Sort sort);
+    
+    @EntityGraph(attributePaths = "skills")
     List<Job> findByStatus(Job.JobStatus status);
     
+    @EntityGraph(attributePaths = "skills")
     List<Job> findByClientIdAndStatus(Long clientId, Job.JobStatus status);
     
+    List<Job> findByStatusAndIdGreaterThanOrderByIdAsc(Job.JobStatus status, Long id, Pageable pageable);
+    
     @Query("SELECT j FROM Job j WHERE j.status = 'OPEN' AND " +
            "(:skills IS NULL OR EXISTS (SELECT s FROM j.skills s WHERE s IN :skills))")
     List<Job> findOpenJobsBySkills(@Param("skills") List<String> skills);
@@ -37,6 +56,194 @@ public interface JobRepository extends JpaRepository<Job, Long> {
                                     @Param("budgetType") Job.BudgetType budgetType,
                                     @Param("minBudget") BigInteger minBudget,
                                     @Param("maxBudget") BigInteger maxBudget);
+
+    /**
+     * First page of {@link #findOpenJobsByFilters} in (createdAt DESC, id DESC) order
+     */
+    @Query("SELECT j FROM Job j WHERE j.status = 'OPEN' AND " +
+           "(:category IS NULL OR j.category = :category) AND " +
+           "(:isUrgent IS NULL OR j.isUrgent = :isUrgent) AND " +
+           "(:budgetType IS NULL OR j.budgetType = :budgetType) AND " +
+           "(:minBudget IS NULL OR :maxBudget IS NULL OR (j.minBudgetCents <= :maxBudget AND j.maxBudgetCents >= :minBudget)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findOpenJobsPageByFilters(@Param("category") String category,
+                                        @Param("isUrgent") Boolean isUrgent,
+                                        @Param("budgetType") Job.BudgetType budgetType,
+                                        @Param("minBudget") BigInteger minBudget,
+                                        @Param("maxBudget") BigInteger maxBudget,
+                                        Pageable pageable);
+
+    /**
+     * Next page of {@link #findOpenJobsByFilters}, strictly after the (createdAt, id) keyset position
+     */
+    @Query("SELECT j FROM Job j WHERE j.status = 'OPEN' AND " +
+           "(:category IS NULL OR j.category = :category) AND " +
+           "(:isUrgent IS NULL OR j.isUrgent = :isUrgent) AND " +
+           "(:budgetType IS NULL OR j.budgetType = :budgetType) AND " +
+           "(:minBudget IS NULL OR :maxBudget IS NULL OR (j.minBudgetCents <= :maxBudget AND j.maxBudgetCents >= :minBudget)) AND " +
+           "(j.createdAt < :afterCreatedAt OR (j.createdAt = :afterCreatedAt AND j.id < :afterId)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findOpenJobsPageByFiltersAfter(@Param("category") String category,
+                                             @Param("isUrgent") Boolean isUrgent,
+                                             @Param("budgetType") Job.BudgetType budgetType,
+                                             @Param("minBudget") BigInteger minBudget,
+                                             @Param("maxBudget") BigInteger maxBudget,
+                                             @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+    
+    // Explicit orderings of the search. Each query is an ordered range scan of a partial index
+    // on OPEN jobs (schema.sql) whose key is exactly the ORDER BY expression, so a page costs
+    // LIMIT index entries and never a sort. The keyset bound is always given; the first page
+    // passes a position before every row (see JobService#startOf). A non-null q is checked
+    // against search_vector row by row along the scan, so a broad term stops after LIMIT hits.
+    
+    /**
+     * OPEN jobs matching the full-text query, newest first, strictly after the
+     * (createdAt, id) position. Uses idx_jobs_status_created_at_id.
+     */
+    @Query(value = "SELECT j.* FROM jobs j" +
+                   " WHERE j.status = 'OPEN'" +
+                   "   AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "   AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "   AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "   AND j.search_vector @@ websearch_to_tsquery('english', :q)" +
+                   "   AND (j.created_at, j.id) < (CAST(:afterCreatedAt AS timestamp), CAST(:afterId AS bigint))" +
+                   " ORDER BY j.created_at DESC, j.id DESC",
+           nativeQuery = true)
+    List<Job> findOpenJobsByTextNewest(@Param("q") String q,
+                                       @Param("category") String category,
+                                       @Param("isUrgent") Boolean isUrgent,
+                                       @Param("budgetType") String budgetType,
+                                       @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+    
+    /**
+     * OPEN jobs by max budget, highest first and jobs without a budget last,
+     * strictly after the (budget key, id) position. Uses idx_jobs_open_budget_high.
+     */
+    @Query(value = "SELECT j.* FROM jobs j" +
+                   " WHERE j.status = 'OPEN'" +
+                   "   AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "   AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "   AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "   AND (CAST(:q AS text) IS NULL OR j.search_vector @@ websearch_to_tsquery('english', CAST(:q AS text)))" +
+                   "   AND (coalesce(j.max_budget_cents, -1), j.id) < (CAST(:afterBudget AS numeric), CAST(:afterId AS bigint))" +
+                   " ORDER BY coalesce(j.max_budget_cents, -1) DESC, j.id DESC",
+           nativeQuery = true)
+    List<Job> findOpenJobsByBudgetDesc(@Param("q") String q,
+                                       @Param("category") String category,
+                                       @Param("isUrgent") Boolean isUrgent,
+                                       @Param("budgetType") String budgetType,
+                                       @Param("afterBudget") BigInteger afterBudget,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+    
+    /**
+     * OPEN jobs by max budget, lowest first and jobs without a budget last,
+     * strictly after the (budget key, id) position. Uses idx_jobs_open_budget_low.
+     */
+    @Query(value = "SELECT j.* FROM jobs j" +
+                   " WHERE j.status = 'OPEN'" +
+                   "   AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "   AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "   AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "   AND (CAST(:q AS text) IS NULL OR j.search_vector @@ websearch_to_tsquery('english', CAST(:q AS text)))" +
+                   "   AND (coalesce(j.max_budget_cents, 9223372036854775807), j.id) > (CAST(:afterBudget AS numeric), CAST(:afterId AS bigint))" +
+                   " ORDER BY coalesce(j.max_budget_cents, 9223372036854775807) ASC, j.id ASC",
+           nativeQuery = true)
+    List<Job> findOpenJobsByBudgetAsc(@Param("q") String q,
+                                      @Param("category") String category,
+                                      @Param("isUrgent") Boolean isUrgent,
+                                      @Param("budgetType") String budgetType,
+                                      @Param("afterBudget") BigInteger afterBudget,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+    
+    /**
+     * OPEN jobs with urgent ones first, newest first within each group, strictly
+     * after the (urgent, id) position. Uses idx_jobs_open_urgent.
+     */
+    @Query(value = "SELECT j.* FROM jobs j" +
+                   " WHERE j.status = 'OPEN'" +
+                   "   AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "   AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "   AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "   AND (CAST(:q AS text) IS NULL OR j.search_vector @@ websearch_to_tsquery('english', CAST(:q AS text)))" +
+                   "   AND (coalesce(j.is_urgent, false), j.id) < (CAST(:afterUrgent AS boolean), CAST(:afterId AS bigint))" +
+                   " ORDER BY coalesce(j.is_urgent, false) DESC, j.id DESC",
+           nativeQuery = true)
+    List<Job> findOpenJobsUrgentFirst(@Param("q") String q,
+                                      @Param("category") String category,
+                                      @Param("isUrgent") Boolean isUrgent,
+                                      @Param("budgetType") String budgetType,
+                                      @Param("afterUrgent") Boolean afterUrgent,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+    
+    /**
+     * Ids of every OPEN job matching the full-text query, for facet counts of a text
+     * search. Reads every match, so it only runs when facets are requested.
+     */
+    @Query(value = "SELECT j.id FROM jobs j WHERE j.status = 'OPEN'" +
+                   " AND j.search_vector @@ websearch_to_tsquery('english', :q)",
+           nativeQuery = true)
+    List<Long> findOpenJobIdsByText(@Param("q") String q);
+    
+    /**
+     * Relevance-ranked full-text match over projectName and description using the
+     * GIN-indexed search_vector column (see schema.sql). Keyset-paginated on (rank, id):
+     * pass null afterRank/afterId for the first page.
+     */
+    @Query(value = "SELECT hits.id AS id, hits.rank AS rank FROM (" +
+                   "  SELECT j.id AS id, ts_rank(j.search_vector, websearch_to_tsquery('english', :q)) AS rank" +
+                   "  FROM jobs j" +
+                   "  WHERE j.status = 'OPEN'" +
+                   "    AND j.search_vector @@ websearch_to_tsquery('english', :q)" +
+                   "    AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "    AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "    AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "    AND (CAST(:minBudget AS numeric) IS NULL OR CAST(:maxBudget AS numeric) IS NULL" +
+                   "         OR (j.min_budget_cents <= CAST(:maxBudget AS numeric) AND j.max_budget_cents >= CAST(:minBudget AS numeric)))" +
+                   ") hits " +
+                   "WHERE CAST(:afterRank AS real) IS NULL" +
+                   "   OR hits.rank < CAST(:afterRank AS real)" +
+                   "   OR (hits.rank = CAST(:afterRank AS real) AND hits.id < CAST(:afterId AS bigint)) " +
+                   "ORDER BY hits.rank DESC, hits.id DESC",
+           nativeQuery = true)
+    List<RankedJobId> searchOpenJobsByText(@Param("q") String q,
+                                           @Param("category") String category,
+                                           @Param("isUrgent") Boolean isUrgent,
+                                           @Param("budgetType") String budgetType,
+                                           @Param("minBudget") BigInteger minBudget,
+                                           @Param("maxBudget") BigInteger maxBudget,
+                                           @Param("afterRank") Float afterRank,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+    
+    /**
+     * Every OPEN job matching the filters, newest first, read through a server-side
+     * cursor. Must be consumed inside a transaction (the Postgres driver only honours
+     * the fetch size with autocommit off) and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT j.* FROM jobs j" +
+                   " WHERE j.status = 'OPEN'" +
+                   "   AND (CAST(:q AS text) IS NULL OR j.search_vector @@ websearch_to_tsquery('english', CAST(:q AS text)))" +
+                   "   AND (CAST(:category AS text) IS NULL OR j.category = CAST(:category AS text))" +
+                   "   AND (CAST(:isUrgent AS boolean) IS NULL OR j.is_urgent = CAST(:isUrgent AS boolean))" +
+                   "   AND (CAST(:budgetType AS text) IS NULL OR j.budget_type = CAST(:budgetType AS text))" +
+                   "   AND (CAST(:minBudget AS numeric) IS NULL OR CAST(:maxBudget AS numeric) IS NULL" +
+                   "        OR (j.min_budget_cents <= CAST(:maxBudget AS numeric) AND j.max_budget_cents >= CAST(:minBudget AS numeric)))" +
+                   " ORDER BY j.created_at DESC, j.id DESC",
+           nativeQuery = true)
+    Stream<Job> streamOpenJobsByFilters(@Param("q") String q,
+                                        @Param("category") String category,
+                                        @Param("isUrgent") Boolean isUrgent,
+                                        @Param("budgetType") String budgetType,
+                                        @Param("minBudget") BigInteger minBudget,
+                                        @Param("maxBudget") BigInteger maxBudget);
     
        @Query("SELECT j FROM Job j WHERE EXISTS (SELECT s FROM j.skills s WHERE s IN :skills)")
        List<Job> findJobsBySkillsContaining(@Param("skills") List<String> skills);
@@ -47,4 +254,40 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     
     @Query("SELECT j FROM Job j WHERE j.status = 'OPEN'")
     List<Job> findOpenJobs();
+    
+    /**
+     * Add the deltas to a job's proposal counters in one atomic row update, so
+     * concurrent proposals never lose an increment
+     */
+    @Modifying
+    @Query(value = "UPDATE jobs SET proposal_count = proposal_count + :total," +
+                   " proposals_submitted = proposals_submitted + :submitted," +
+                   " proposals_withdrawn = proposals_withdrawn + :withdrawn," +
+                   " proposals_declined = proposals_declined + :declined," +
+                   " proposals_accepted = proposals_accepted + :accepted," +
+                   " proposals_contracted = proposals_contracted + :contracted" +
+                   " WHERE id = :jobId",
+           nativeQuery = true)
+    int adjustProposalCounts(@Param("jobId") Long jobId,
+                             @Param("total") int total,
+                             @Param("submitted") int submitted,
+                             @Param("withdrawn") int withdrawn,
+                             @Param("declined") int declined,
+                             @Param("accepted") int accepted,
+                             @Param("contracted") int contracted);
+    
+    /**
+     * Jobs with proposals but no bid stats row yet, in id order after {@code afterId}.
+     * Reads the denormalized proposal_count, never the proposals table.
+     */
+    @Query(value = "SELECT j.id FROM jobs j WHERE j.proposal_count > 0 AND j.id > :afterId" +
+                   " AND NOT EXISTS (SELECT 1 FROM job_bid_stats s WHERE s.job_id = j.id)" +
+                   " ORDER BY j.id",
+           nativeQuery = true)
+    List<Long> findJobIdsWithoutBidStats(@Param("afterId") Long afterId, Pageable pageable);
+    
+    interface RankedJobId {
+        Long getId();
+        Float getRank();
+    }
 }
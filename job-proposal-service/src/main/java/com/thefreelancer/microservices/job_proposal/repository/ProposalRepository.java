@@ -1,10 +1,16 @@
 package com.thefreelancer.microservices.job_proposal.repository;
 
 import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigInteger;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProposalRepository extends JpaRepository<Proposal, Long> {
@@ -13,6 +19,40 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
     
     List<Proposal> findByJobIdOrderByCreatedAtDesc(Long jobId);
     
+    // Keyset pages of one job's proposals. Each ORDER BY matches a (job_id, ...) index, so a page
+    // is an index range scan of LIMIT entries however many bids the job has; the first page
+    // passes a position before every row (see ProposalService#startOf).
+    
+    @Query(value = "SELECT p.* FROM proposals p" +
+                   " WHERE p.job_id = :jobId" +
+                   "   AND (p.created_at, p.id) < (CAST(:afterCreatedAt AS timestamp), CAST(:afterId AS bigint))" +
+                   " ORDER BY p.created_at DESC, p.id DESC",
+           nativeQuery = true)
+    List<Proposal> findPageByJobIdNewest(@Param("jobId") Long jobId,
+                                         @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+    
+    @Query(value = "SELECT p.* FROM proposals p" +
+                   " WHERE p.job_id = :jobId" +
+                   "   AND (coalesce(p.total_cents, 9223372036854775807), p.id) > (CAST(:afterPrice AS numeric), CAST(:afterId AS bigint))" +
+                   " ORDER BY coalesce(p.total_cents, 9223372036854775807) ASC, p.id ASC",
+           nativeQuery = true)
+    List<Proposal> findPageByJobIdCheapest(@Param("jobId") Long jobId,
+                                           @Param("afterPrice") BigInteger afterPrice,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+    
+    @Query(value = "SELECT p.* FROM proposals p" +
+                   " WHERE p.job_id = :jobId" +
+                   "   AND (coalesce(p.delivery_days, 2147483647), p.id) > (CAST(:afterDays AS integer), CAST(:afterId AS bigint))" +
+                   " ORDER BY coalesce(p.delivery_days, 2147483647) ASC, p.id ASC",
+           nativeQuery = true)
+    List<Proposal> findPageByJobIdFastest(@Param("jobId") Long jobId,
+                                          @Param("afterDays") Integer afterDays,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+    
     List<Proposal> findByFreelancerId(Long freelancerId);
     
     List<Proposal> findByFreelancerIdOrderByCreatedAtDesc(Long freelancerId);
@@ -23,5 +63,84 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
     
     List<Proposal> findByFreelancerIdAndStatusOrderByCreatedAtDesc(Long freelancerId, Proposal.ProposalStatus status);
     
+    /**
+     * One keyset page of a freelancer's proposals, newest first, with exactly the columns
+     * of ProposalResponseDto. The job title comes from the join, so no Job entity is loaded.
+     * A null status means every status; the first page passes a position before every row.
+     */
+    @Query("SELECT p.id AS id, j.id AS jobId, j.projectName AS jobTitle, p.freelancerId AS freelancerId, " +
+           "p.cover AS cover, p.totalCents AS totalCents, p.deliveryDays AS deliveryDays, p.status AS status, " +
+           "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+           "FROM Proposal p JOIN p.job j " +
+           "WHERE p.freelancerId = :freelancerId AND " +
+           "(:status IS NULL OR p.status = :status) AND " +
+           "(p.createdAt < :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id < :afterId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProposalSummary> findSummariesByFreelancerId(@Param("freelancerId") Long freelancerId,
+                                                      @Param("status") Proposal.ProposalStatus status,
+                                                      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+    
+    /**
+     * Ranking inputs of every proposal of a job in one grouped query: the bid plus the
+     * number and total amount of its milestones. milestoneCents is null without milestones.
+     */
+    @Query("SELECT p.id AS id, p.freelancerId AS freelancerId, p.status AS status, " +
+           "p.totalCents AS totalCents, p.deliveryDays AS deliveryDays, " +
+           "COUNT(m.id) AS milestoneCount, SUM(m.amountCents) AS milestoneCents " +
+           "FROM Proposal p LEFT JOIN p.milestones m " +
+           "WHERE p.job.id = :jobId " +
+           "GROUP BY p.id, p.freelancerId, p.status, p.totalCents, p.deliveryDays")
+    List<ProposalFeatureRow> findFeatureRowsByJobId(@Param("jobId") Long jobId);
+    
+    @Query("SELECT p.id AS id, p.freelancerId AS freelancerId, p.status AS status, " +
+           "p.totalCents AS totalCents, p.deliveryDays AS deliveryDays, " +
+           "COUNT(m.id) AS milestoneCount, SUM(m.amountCents) AS milestoneCents " +
+           "FROM Proposal p LEFT JOIN p.milestones m " +
+           "WHERE p.id = :proposalId " +
+           "GROUP BY p.id, p.freelancerId, p.status, p.totalCents, p.deliveryDays")
+    Optional<ProposalFeatureRow> findFeatureRowById(@Param("proposalId") Long proposalId);
+    
+    /**
+     * The bid of every proposal of a job, to seed its bid stats once
+     */
+    @Query("SELECT p.id AS id, p.totalCents AS totalCents, p.deliveryDays AS deliveryDays, p.status AS status " +
+           "FROM Proposal p WHERE p.job.id = :jobId")
+    List<ProposalBid> findBidsByJobId(@Param("jobId") Long jobId);
+    
     boolean existsByJobIdAndFreelancerId(Long jobId, Long freelancerId);
+    
+    @Query("SELECT p.job.id FROM Proposal p WHERE p.freelancerId = :freelancerId")
+    List<Long> findJobIdsByFreelancerId(@Param("freelancerId") Long freelancerId);
+    
+    interface ProposalSummary {
+        Long getId();
+        Long getJobId();
+        String getJobTitle();
+        Long getFreelancerId();
+        String getCover();
+        BigInteger getTotalCents();
+        Integer getDeliveryDays();
+        Proposal.ProposalStatus getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+    
+    interface ProposalFeatureRow {
+        Long getId();
+        Long getFreelancerId();
+        Proposal.ProposalStatus getStatus();
+        BigInteger getTotalCents();
+        Integer getDeliveryDays();
+        Long getMilestoneCount();
+        BigInteger getMilestoneCents();
+    }
+    
+    interface ProposalBid {
+        Long getId();
+        BigInteger getTotalCents();
+        Integer getDeliveryDays();
+        Proposal.ProposalStatus getStatus();
+    }
 }
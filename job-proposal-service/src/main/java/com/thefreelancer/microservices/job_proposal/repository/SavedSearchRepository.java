@@ -0,0 +1,20 @@
+package com.thefreelancer.microservices.job_proposal.repository;
+
+import com.thefreelancer.microservices.job_proposal.model.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    
+    @EntityGraph(attributePaths = "skills")
+    List<SavedSearch> findByFreelancerIdOrderByCreatedAtDesc(Long freelancerId);
+    
+    List<SavedSearch> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    long countByFreelancerId(Long freelancerId);
+}
@@ -4,11 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thefreelancer.microservices.job_proposal.dto.*;
 import com.thefreelancer.microservices.job_proposal.dto.workspace.RoomCreateDto;
 import com.thefreelancer.microservices.job_proposal.dto.workspace.RoomResponseDto;
+import com.thefreelancer.microservices.job_proposal.event.ContractChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.ProposalSnapshot;
 import com.thefreelancer.microservices.job_proposal.exception.ResourceNotFoundException;
 import com.thefreelancer.microservices.job_proposal.model.*;
 import com.thefreelancer.microservices.job_proposal.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +31,11 @@ public class ContractService {
     private final JobRepository jobRepository;
     private final ProposalRepository proposalRepository;
     private final ProposalMilestoneRepository proposalMilestoneRepository;
+    private final ProposalCountService proposalCountService;
+    private final JobBidStatsService jobBidStatsService;
     private final ObjectMapper objectMapper;
     private final WorkspaceClient workspaceClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new contract from an accepted proposal
@@ -115,12 +124,20 @@ public class ContractService {
         }
         
         // Update proposal status to CONTRACTED
+        ProposalSnapshot previousProposal = ProposalSnapshot.from(proposal);
         proposal.setStatus(Proposal.ProposalStatus.CONTRACTED);
         proposalRepository.save(proposal);
+        ProposalSnapshot contractedProposal = ProposalSnapshot.from(proposal);
+        proposalCountService.statusChanged(job.getId(), previousProposal.getStatus(), proposal.getStatus());
+        jobBidStatsService.proposalChanged(previousProposal, contractedProposal);
+        eventPublisher.publishEvent(ProposalChangedEvent.updated(previousProposal, contractedProposal));
+        eventPublisher.publishEvent(ContractChangedEvent.of(savedContract, null));
         
         // Update job status to IN_PROGRESS
+        JobSnapshot previousJob = JobSnapshot.from(job);
         job.setStatus(Job.JobStatus.IN_PROGRESS);
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.updated(previousJob, JobSnapshot.from(job)));
         
         // Create workspace room for the contract
         try {
@@ -194,8 +211,10 @@ public class ContractService {
         // Validate status transition
         validateStatusTransition(contract.getStatus(), updateDto.getStatus());
 
+        Contract.ContractStatus previousStatus = contract.getStatus();
         contract.setStatus(updateDto.getStatus());
         Contract savedContract = contractRepository.save(contract);
+        eventPublisher.publishEvent(ContractChangedEvent.of(savedContract, previousStatus));
 
         log.info("Contract status updated successfully: {}", contractId);
         return convertToResponseDto(savedContract, false);
@@ -0,0 +1,215 @@
+package com.thefreelancer.microservices.job_proposal.service;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobBidStatsDto;
+import com.thefreelancer.microservices.job_proposal.event.ProposalSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.model.JobBidStats;
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import com.thefreelancer.microservices.job_proposal.repository.JobBidStatsRepository;
+import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
+import com.thefreelancer.microservices.job_proposal.service.stats.BidSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the per-job bid aggregates ({@link JobBidStats}) in step with proposal
+ * writes and serves them. Every change locks the job's stats row, takes the old
+ * bid out and puts the new one in, inside the caller's transaction; reads decode
+ * one row. A job's row is seeded from its proposals once, when it is created.
+ * <p>
+ * Withdrawn proposals are not bids. Taking out the lowest or highest bid leaves
+ * min or max at the sketch's estimate of the next one, within 1%.
+ */
+@Service
+@Slf4j
+public class JobBidStatsService {
+
+    private final JobBidStatsRepository jobBidStatsRepository;
+    private final JobRepository jobRepository;
+    private final ProposalRepository proposalRepository;
+    private final int minBidsToShare;
+
+    public JobBidStatsService(JobBidStatsRepository jobBidStatsRepository,
+                              JobRepository jobRepository,
+                              ProposalRepository proposalRepository,
+                              @Value("${jobs.bid-stats.min-bids:3}") int minBidsToShare) {
+        this.jobBidStatsRepository = jobBidStatsRepository;
+        this.jobRepository = jobRepository;
+        this.proposalRepository = proposalRepository;
+        this.minBidsToShare = minBidsToShare;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void proposalChanged(ProposalSnapshot previous, ProposalSnapshot current) {
+        Bid before = Bid.of(previous);
+        Bid after = Bid.of(current);
+        if (Objects.equals(before, after)) {
+            return; // neither price nor delivery time nor bid status changed
+        }
+        ProposalSnapshot latest = current != null ? current : previous;
+        if (latest.getJobId() == null) {
+            return;
+        }
+
+        JobBidStats stats = lock(latest.getJobId(), latest.getId());
+        BidSketch sketch = BidSketch.fromBytes(stats.getBidSketch());
+        if (before != null) {
+            remove(stats, sketch, before);
+        }
+        if (after != null) {
+            add(stats, sketch, after);
+        }
+        stats.setBidSketch(sketch.toBytes());
+    }
+
+    /**
+     * Create and seed the stats of a job that has none yet
+     */
+    @Transactional
+    public void initialize(Long jobId) {
+        lock(jobId, null);
+    }
+
+    /**
+     * Bid statistics of a job. The owner sees the stored min and max, which are exact
+     * until the lowest or highest bid is withdrawn or repriced and then within 1%;
+     * everybody else sees sketch estimates, and only once the job has enough bids that
+     * no single bid can be read off them.
+     */
+    @Transactional(readOnly = true)
+    public Optional<JobBidStatsDto> getBidStats(Long jobId, Long viewerId) {
+        log.info("Fetching bid stats for job: {}", jobId);
+
+        Optional<Job> job = jobRepository.findById(jobId);
+        if (job.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean owner = job.get().getClientId().equals(viewerId);
+
+        JobBidStats stats = jobBidStatsRepository.findById(jobId).orElse(null);
+        int count = stats != null ? stats.getBidCount() : 0;
+        JobBidStatsDto.JobBidStatsDtoBuilder dto = JobBidStatsDto.builder().jobId(jobId).bidCount(count);
+        if (count == 0 || (!owner && count < minBidsToShare)) {
+            return Optional.of(dto.build());
+        }
+
+        BidSketch sketch = BidSketch.fromBytes(stats.getBidSketch());
+        dto.medianBidCents(toBigInteger(sketch.quantile(0.5)))
+                .averageBidCents(divideRounded(stats.getTotalCentsSum(), count));
+        if (owner) {
+            dto.minBidCents(stats.getMinBidCents()).maxBidCents(stats.getMaxBidCents());
+        } else {
+            dto.minBidCents(toBigInteger(sketch.quantile(0))).maxBidCents(toBigInteger(sketch.quantile(1)));
+        }
+        if (stats.getDeliveryDaysCount() > 0) {
+            double average = (double) stats.getDeliveryDaysSum() / stats.getDeliveryDaysCount();
+            dto.averageDeliveryDays(Math.round(average * 10) / 10.0);
+        }
+        return Optional.of(dto.build());
+    }
+
+    // The job's stats row, locked; created and seeded from the job's other proposals if missing
+    private JobBidStats lock(Long jobId, Long changedProposalId) {
+        boolean created = jobBidStatsRepository.insertIfAbsent(jobId) == 1;
+        JobBidStats stats = jobBidStatsRepository.findForUpdate(jobId)
+                .orElseThrow(() -> new IllegalStateException("No bid stats row for job " + jobId));
+        if (created) {
+            seed(stats, changedProposalId);
+        }
+        return stats;
+    }
+
+    // One-time read of a job's proposals; the changed proposal is applied by the caller
+    private void seed(JobBidStats stats, Long changedProposalId) {
+        BidSketch sketch = new BidSketch();
+        for (ProposalRepository.ProposalBid row : proposalRepository.findBidsByJobId(stats.getJobId())) {
+            Bid bid = Bid.of(row.getStatus(), row.getTotalCents(), row.getDeliveryDays());
+            if (bid != null && !row.getId().equals(changedProposalId)) {
+                add(stats, sketch, bid);
+            }
+        }
+        stats.setBidSketch(sketch.toBytes());
+        if (stats.getBidCount() > 0) {
+            log.info("Seeded bid stats of job {} with {} existing bids", stats.getJobId(), stats.getBidCount());
+        }
+    }
+
+    private static void add(JobBidStats stats, BidSketch sketch, Bid bid) {
+        stats.setBidCount(stats.getBidCount() + 1);
+        stats.setTotalCentsSum(stats.getTotalCentsSum().add(bid.totalCents()));
+        stats.setMinBidCents(stats.getMinBidCents() == null ? bid.totalCents() : stats.getMinBidCents().min(bid.totalCents()));
+        stats.setMaxBidCents(stats.getMaxBidCents() == null ? bid.totalCents() : stats.getMaxBidCents().max(bid.totalCents()));
+        if (bid.deliveryDays() != null) {
+            stats.setDeliveryDaysSum(stats.getDeliveryDaysSum() + bid.deliveryDays());
+            stats.setDeliveryDaysCount(stats.getDeliveryDaysCount() + 1);
+        }
+        sketch.add(sketchValue(bid.totalCents()));
+    }
+
+    private static void remove(JobBidStats stats, BidSketch sketch, Bid bid) {
+        if (stats.getBidCount() == 0 || !sketch.remove(sketchValue(bid.totalCents()))) {
+            log.warn("Bid stats of job {} do not contain the bid being removed", stats.getJobId());
+            return;
+        }
+        stats.setBidCount(stats.getBidCount() - 1);
+        stats.setTotalCentsSum(stats.getTotalCentsSum().subtract(bid.totalCents()));
+        if (bid.deliveryDays() != null && stats.getDeliveryDaysCount() > 0) {
+            stats.setDeliveryDaysSum(stats.getDeliveryDaysSum() - bid.deliveryDays());
+            stats.setDeliveryDaysCount(stats.getDeliveryDaysCount() - 1);
+        }
+
+        BigInteger min = stats.getMinBidCents();
+        BigInteger max = stats.getMaxBidCents();
+        if (stats.getBidCount() == 0) {
+            stats.setMinBidCents(null);
+            stats.setMaxBidCents(null);
+        } else if (min.equals(max)) {
+            return; // every remaining bid has the same amount
+        } else if (bid.totalCents().equals(min)) {
+            stats.setMinBidCents(toBigInteger(sketch.quantile(0)).min(max));
+        } else if (bid.totalCents().equals(max)) {
+            stats.setMaxBidCents(toBigInteger(sketch.quantile(1)).max(min));
+        }
+    }
+
+    private static BigInteger divideRounded(BigInteger sum, int count) {
+        BigInteger divisor = BigInteger.valueOf(count);
+        return sum.add(divisor.shiftRight(1)).divide(divisor);
+    }
+
+    // Amounts beyond a long are clamped; no real bid gets near that
+    private static long sketchValue(BigInteger cents) {
+        return cents.bitLength() > 63 ? (cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE) : cents.longValue();
+    }
+
+    private static BigInteger toBigInteger(Long cents) {
+        return cents != null ? BigInteger.valueOf(cents) : null;
+    }
+
+    /**
+     * What a proposal contributes to the stats; null when it is not a bid
+     */
+    private record Bid(BigInteger totalCents, Integer deliveryDays) {
+
+        static Bid of(ProposalSnapshot proposal) {
+            return proposal != null
+                    ? of(proposal.getStatus(), proposal.getTotalCents(), proposal.getDeliveryDays())
+                    : null;
+        }
+
+        static Bid of(Proposal.ProposalStatus status, BigInteger totalCents, Integer deliveryDays) {
+            if (status == Proposal.ProposalStatus.WITHDRAWN || totalCents == null) {
+                return null;
+            }
+            return new Bid(totalCents, deliveryDays);
+        }
+    }
+}
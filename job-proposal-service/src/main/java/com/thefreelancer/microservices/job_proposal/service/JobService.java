@@ -1,27 +1,96 @@
 package com.thefreelancer.microservices.job_proposal.service;
 
+import com.thefreelancer.microservices.job_proposal.dto.CacheStatsDto;
 import com.thefreelancer.microservices.job_proposal.dto.JobCreateDto;
 import com.thefreelancer.microservices.job_proposal.dto.JobResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchPageDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
 import com.thefreelancer.microservices.job_proposal.dto.JobUpdateDto;
+import com.thefreelancer.microservices.job_proposal.dto.TermSuggestionDto;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.exception.DuplicateJobException;
 import com.thefreelancer.microservices.job_proposal.mapper.JobMapper;
 import com.thefreelancer.microservices.job_proposal.model.Job;
 import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import com.thefreelancer.microservices.job_proposal.service.feed.FreelancerProfile;
+import com.thefreelancer.microservices.job_proposal.service.feed.FreelancerProfileCache;
+import com.thefreelancer.microservices.job_proposal.service.feed.JobFeedIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.AppliedJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.DuplicateJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.FuzzyTermExpander;
+import com.thefreelancer.microservices.job_proposal.service.search.JobSearchCache;
+import com.thefreelancer.microservices.job_proposal.service.search.JobSimHash;
+import com.thefreelancer.microservices.job_proposal.service.search.JobSearchCursor;
+import com.thefreelancer.microservices.job_proposal.service.search.JobTermSuggester;
+import com.thefreelancer.microservices.job_proposal.service.search.LuceneJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.OpenJobBitmapIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SemanticJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SimilarJobIndex;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobService {
     
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int FACET_TOP_SKILLS = 20;
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int EXPORT_BATCH_SIZE = 100;
+    private static final int DEFAULT_SIMILAR_LIMIT = 10;
+    private static final int MAX_SIMILAR_LIMIT = 50;
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MAX_FEED_DEPTH = 500;
+    
+    // Beyond any stored budget (numeric(38,0)); bounds the first page of a budget ordering
+    private static final BigInteger BUDGET_KEY_BOUND = BigInteger.TEN.pow(38);
+    // Later than any job's createdAt, yet a timestamp Postgres accepts
+    private static final LocalDateTime CREATED_AT_BOUND = LocalDateTime.of(9999, 12, 31, 23, 59);
+    
     private final JobRepository jobRepository;
     private final JobMapper jobMapper;
+    private final OpenJobBitmapIndex openJobBitmapIndex;
+    private final ObjectProvider<LuceneJobIndex> luceneJobIndex; // present when jobs.search.backend=lucene
+    private final SemanticJobIndex semanticJobIndex;
+    private final JobSearchCache jobSearchCache;
+    private final JobTermSuggester jobTermSuggester;
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final SimilarJobIndex similarJobIndex;
+    private final FreelancerProfileCache freelancerProfileCache;
+    private final JobFeedIndex jobFeedIndex;
+    private final AppliedJobIndex appliedJobIndex;
+    private final FuzzyTermExpander fuzzyTermExpander;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
     
     @Transactional
     public JobResponseDto createJob(JobCreateDto createDto, Long clientId) {
@@ -34,6 +103,16 @@ public class JobService {
             }
         }
 
+        // Re-posts of the same job are found through the LSH index, never by scanning jobs
+        long signature = JobSimHash.of(createDto.getProjectName(), createDto.getDescription());
+        Optional<Long> duplicateOf = duplicateJobIndex.findNearDuplicate(clientId, signature);
+        if (duplicateOf.isPresent()) {
+            log.warn("Job for clientId: {} is a near duplicate of job {}", clientId, duplicateOf.get());
+            if (duplicateJobIndex.rejectsDuplicates()) {
+                throw new DuplicateJobException(duplicateOf.get());
+            }
+        }
+
         Job job = jobMapper.toEntity(createDto);
         job.setClientId(clientId); // Set clientId from authentication
         job.setStatus(Job.JobStatus.DRAFT); // New jobs start as draft
@@ -41,12 +120,16 @@ public class JobService {
         Job savedJob = jobRepository.save(job);
         log.info("Successfully created job with ID: {} for clientId: {}", savedJob.getId(), clientId);
         
-        return jobMapper.toResponseDto(savedJob);
+        eventPublisher.publishEvent(JobChangedEvent.created(JobSnapshot.from(savedJob)));
+        
+        JobResponseDto response = jobMapper.toResponseDto(savedJob);
+        response.setPossibleDuplicateOfJobId(duplicateOf.orElse(null));
+        return response;
     }    public Optional<JobResponseDto> getJobById(Long jobId) {
         log.info("Fetching job with ID: {}", jobId);
         
-        return jobRepository.findById(jobId)
-                .map(jobMapper::toResponseDto);
+        return jobSearchCache.getJob(jobId, id -> jobRepository.findById(id)
+                .map(jobMapper::toResponseDto));
     }
     
     @Transactional
@@ -69,6 +152,7 @@ public class JobService {
             }
         }
         
+        JobSnapshot previous = JobSnapshot.from(job);
         jobMapper.updateEntityFromDto(updateDto, job);
 
     // mark the job as edited now
@@ -77,6 +161,8 @@ public class JobService {
     Job updatedJob = jobRepository.save(job);
         log.info("Successfully updated job with ID: {}", jobId);
         
+        eventPublisher.publishEvent(JobChangedEvent.updated(previous, JobSnapshot.from(updatedJob)));
+        
         return Optional.of(jobMapper.toResponseDto(updatedJob));
     }
     
@@ -99,29 +185,579 @@ public class JobService {
         }
         
         // Soft delete by setting status to CANCELLED
+        JobSnapshot previous = JobSnapshot.from(job);
         job.setStatus(Job.JobStatus.CANCELLED);
         jobRepository.save(job);
         
+        eventPublisher.publishEvent(JobChangedEvent.removed(previous, JobSnapshot.from(job)));
+        
         log.info("Successfully cancelled/deleted job with ID: {}", jobId);
         return true;
     }
     
     public List<JobResponseDto> getJobsByClientId(Long clientId) {
-        log.info("Fetching jobs for clientId: {}", clientId);
+        return getJobsByClientId(clientId, null);
+    }
+    
+    /**
+     * A client's jobs in the given order (unordered when sort is null). Every ordering
+     * is backed by a (client_id, ...) index, so the rows come back without a sort step.
+     */
+    public List<JobResponseDto> getJobsByClientId(Long clientId, JobSort sort) {
+        log.info("Fetching jobs for clientId: {} (sort: {})", clientId, sort);
         
-        return jobRepository.findByClientId(clientId)
-                .stream()
+        List<Job> jobs = sort == null
+                ? jobRepository.findByClientId(clientId)
+                : jobRepository.findByClientId(clientId, clientJobsOrder(sort));
+        return jobs.stream()
                 .map(jobMapper::toResponseDto)
                 .toList();
     }
     
-    public List<JobResponseDto> searchJobs(String category, BigInteger minBudget, BigInteger maxBudget, Boolean isUrgent, Job.BudgetType budgetType) {
-        log.info("Searching jobs with category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}", category, minBudget, maxBudget, isUrgent, budgetType);
+    private static Sort clientJobsOrder(JobSort sort) {
+        return switch (sort) {
+            case NEWEST -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            case BUDGET_HIGH -> Sort.by(Sort.Order.desc("maxBudgetCents").nullsLast(), Sort.Order.desc("id"));
+            case BUDGET_LOW -> Sort.by(Sort.Order.asc("maxBudgetCents").nullsLast(), Sort.Order.asc("id"));
+            case URGENT -> Sort.by(Sort.Order.desc("isUrgent").nullsLast(), Sort.Order.desc("id"));
+        };
+    }
+    
+    public JobSearchPageDto searchJobs(JobSearchCriteria criteria) {
+        expandTerms(criteria);
+        if (criteria.getExcludeAppliedBy() != null) {
+            return loadSearchPage(criteria); // per-freelancer pages are not worth sharing through the cache
+        }
+        JobSearchCache.SearchKey key = JobSearchCache.SearchKey.of(criteria, normalizeLimit(criteria.getLimit()));
+        return jobSearchCache.getSearchPage(key, () -> loadSearchPage(criteria));
+    }
+    
+    public List<CacheStatsDto> getSearchCacheStats() {
+        return jobSearchCache.stats();
+    }
+    
+    private JobSearchPageDto loadSearchPage(JobSearchCriteria criteria) {
+        JobSearchPageDto page = findPage(criteria);
+        
+        if (Boolean.TRUE.equals(criteria.getIncludeFacets())) {
+            // Facets count the jobs the search would return, so free text narrows them too
+            RoaringBitmap textMatches = null;
+            if (criteria.getQ() != null && !criteria.getQ().isBlank()) {
+                textMatches = new RoaringBitmap();
+                for (Long id : jobRepository.findOpenJobIdsByText(criteria.getQ().trim())) {
+                    textMatches.add(OpenJobBitmapIndex.toBitmapId(id));
+                }
+            }
+            page.setFacets(openJobBitmapIndex.facets(criteria.getSkills(),
+                    Boolean.TRUE.equals(criteria.getMatchAllSkills()), criteria.getCategory(),
+                    criteria.getBudgetType(), criteria.getIsUrgent(),
+                    criteria.getMinBudget(), criteria.getMaxBudget(), textMatches, FACET_TOP_SKILLS));
+        }
+        return page;
+    }
+    
+    private JobSearchPageDto findPage(JobSearchCriteria criteria) {
+        log.info("Searching jobs with q: '{}', category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}, limit: {}",
+                criteria.getQ(), criteria.getCategory(), criteria.getMinBudget(), criteria.getMaxBudget(),
+                criteria.getIsUrgent(), criteria.getBudgetType(), criteria.getLimit());
 
-        List<Job> jobs = jobRepository.findOpenJobsByFilters(category, isUrgent, budgetType, minBudget, maxBudget);
+        int limit = normalizeLimit(criteria.getLimit());
+        // Jobs the freelancer already applied to are dropped from the candidates in memory
+        RoaringBitmap excluded = criteria.getExcludeAppliedBy() != null
+                ? appliedJobIndex.appliedJobs(criteria.getExcludeAppliedBy())
+                : null;
+        LuceneJobIndex luceneIndex = luceneJobIndex.getIfAvailable();
+        if (luceneIndex != null) {
+            return searchWithLucene(luceneIndex, criteria, limit, excluded);
+        }
+        boolean hasText = criteria.getQ() != null && !criteria.getQ().isBlank();
+        if (hasText && criteria.getSort() == null) {
+            return searchByText(criteria, limit, excluded);
+        }
+        if (!hasText && (hasSkills(criteria) || hasBudgetRange(criteria))) {
+            return searchByIndex(criteria, limit, excluded);
+        }
+        
+        // Text in an explicit order is matched by the ordered query itself, one page at a
+        // time; skill and budget filters are then applied from the index
+        String q = hasText ? criteria.getQ().trim() : null;
+        RoaringBitmap indexCandidates = indexCandidates(criteria);
+        
+        // Fetch one extra row to know whether another page exists
+        JobSort sort = sortOf(criteria);
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        JobSearchCursor after = hasCursor(criteria) ? JobSearchCursor.decode(criteria.getCursor()) : null;
 
-        return jobs.stream()
+        // Keep paging while excluded jobs leave the page short
+        List<Job> jobs = new ArrayList<>(limit + 1);
+        while (jobs.size() <= limit) {
+            List<Job> batch = fetchOrderedPage(criteria, q, sort, after, pageable);
+            
+            for (Job job : batch) {
+                if (isCandidate(indexCandidates, job.getId()) && !isExcluded(excluded, job.getId())) {
+                    jobs.add(job);
+                    if (jobs.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            if (batch.size() <= limit) {
+                break; // no further rows in the database
+            }
+            after = cursorOf(batch.get(batch.size() - 1), sort);
+        }
+
+        return toPage(jobs, limit, job -> cursorOf(job, sort));
+    }
+    
+    // One page of OPEN jobs in the requested order, each served by an ordered index scan
+    private List<Job> fetchOrderedPage(JobSearchCriteria criteria, String q, JobSort sort, JobSearchCursor after,
+                                       Pageable pageable) {
+        String budgetType = criteria.getBudgetType() != null ? criteria.getBudgetType().name() : null;
+        if (sort == JobSort.NEWEST && q == null) {
+            if (after == null) {
+                return jobRepository.findOpenJobsPageByFilters(criteria.getCategory(), criteria.getIsUrgent(),
+                        criteria.getBudgetType(), criteria.getMinBudget(), criteria.getMaxBudget(), pageable);
+            }
+            return jobRepository.findOpenJobsPageByFiltersAfter(criteria.getCategory(), criteria.getIsUrgent(),
+                    criteria.getBudgetType(), criteria.getMinBudget(), criteria.getMaxBudget(),
+                    after.createdAt(), after.id(), pageable);
+        }
+        
+        JobSearchCursor from = after != null ? after : startOf(sort);
+        return switch (sort) {
+            case NEWEST -> jobRepository.findOpenJobsByTextNewest(q, criteria.getCategory(),
+                    criteria.getIsUrgent(), budgetType, from.createdAt(), from.id(), pageable);
+            case BUDGET_HIGH -> jobRepository.findOpenJobsByBudgetDesc(q, criteria.getCategory(),
+                    criteria.getIsUrgent(), budgetType, from.budgetKey(true), from.id(), pageable);
+            case BUDGET_LOW -> jobRepository.findOpenJobsByBudgetAsc(q, criteria.getCategory(),
+                    criteria.getIsUrgent(), budgetType, from.budgetKey(false), from.id(), pageable);
+            case URGENT -> jobRepository.findOpenJobsUrgentFirst(q, criteria.getCategory(),
+                    criteria.getIsUrgent(), budgetType, from.urgent(), from.id(), pageable);
+        };
+    }
+    
+    /**
+     * A keyset position before every job in the ordering, so the first page uses the
+     * same index range condition as every later one
+     */
+    private static JobSearchCursor startOf(JobSort sort) {
+        return switch (sort) {
+            case BUDGET_HIGH -> JobSearchCursor.ofBudget(true, BUDGET_KEY_BOUND, Long.MAX_VALUE);
+            case BUDGET_LOW -> JobSearchCursor.ofBudget(false, BUDGET_KEY_BOUND.negate(), Long.MIN_VALUE);
+            case URGENT -> JobSearchCursor.ofUrgent(true, Long.MAX_VALUE);
+            case NEWEST -> JobSearchCursor.of(CREATED_AT_BOUND, Long.MAX_VALUE);
+        };
+    }
+    
+    private static JobSearchCursor cursorOf(Job job, JobSort sort) {
+        return switch (sort) {
+            case NEWEST -> JobSearchCursor.of(job.getCreatedAt(), job.getId());
+            case BUDGET_HIGH -> JobSearchCursor.ofBudget(true, job.getMaxBudgetCents(), job.getId());
+            case BUDGET_LOW -> JobSearchCursor.ofBudget(false, job.getMaxBudgetCents(), job.getId());
+            case URGENT -> JobSearchCursor.ofUrgent(Boolean.TRUE.equals(job.getIsUrgent()), job.getId());
+        };
+    }
+    
+    private static JobSort sortOf(JobSearchCriteria criteria) {
+        return criteria.getSort() != null ? criteria.getSort() : JobSort.NEWEST;
+    }
+
+    /**
+     * Hand every OPEN job matching the criteria to {@code sink}, newest first, without
+     * materializing the result. Rows are read through a database cursor and detached
+     * once written, so memory stays flat however many jobs match. Cursor and limit
+     * are ignored; facets are not computed.
+     *
+     * @return the number of jobs written
+     */
+    @Transactional
+    public long exportJobs(JobSearchCriteria criteria, Consumer<JobResponseDto> sink) {
+        log.info("Exporting jobs with q: '{}', category: {}, minBudget: {}, maxBudget: {}, isUrgent: {}, budgetType: {}, skills: {}",
+                criteria.getQ(), criteria.getCategory(), criteria.getMinBudget(), criteria.getMaxBudget(),
+                criteria.getIsUrgent(), criteria.getBudgetType(), criteria.getSkills());
+        
+        expandTerms(criteria);
+        // Skill and budget filters come from the in-memory index; the query only sees the rest
+        RoaringBitmap indexCandidates = indexCandidates(criteria);
+        String q = criteria.getQ() != null && !criteria.getQ().isBlank() ? criteria.getQ().trim() : null;
+        String budgetType = criteria.getBudgetType() != null ? criteria.getBudgetType().name() : null;
+        
+        long written = 0;
+        List<Job> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<Job> jobs = jobRepository.streamOpenJobsByFilters(q, criteria.getCategory(),
+                criteria.getIsUrgent(), budgetType, null, null)) {
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                if (isCandidate(indexCandidates, job.getId())) {
+                    batch.add(job);
+                } else {
+                    entityManager.detach(job);
+                }
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    written += writeBatch(batch, sink);
+                }
+            }
+            written += writeBatch(batch, sink);
+        }
+        log.info("Exported {} jobs", written);
+        return written;
+    }
+    
+    // Mapping a batch at once lets Hibernate load the skills of all its jobs in one query
+    private int writeBatch(List<Job> batch, Consumer<JobResponseDto> sink) {
+        int size = batch.size();
+        for (Job job : batch) {
+            sink.accept(jobMapper.toResponseDto(job));
+        }
+        batch.forEach(entityManager::detach);
+        batch.clear();
+        return size;
+    }
+    
+    public List<TermSuggestionDto> suggestSkills(String prefix, Integer limit) {
+        return jobTermSuggester.suggestSkills(prefix, normalizeSuggestLimit(limit));
+    }
+    
+    public List<TermSuggestionDto> suggestCategories(String prefix, Integer limit) {
+        return jobTermSuggester.suggestCategories(prefix, normalizeSuggestLimit(limit));
+    }
+    
+    /**
+     * Open jobs closest in meaning to the query text, most similar first
+     */
+    public List<JobResponseDto> semanticSearch(String q, Integer limit) {
+        log.info("Semantic job search for q: '{}', limit: {}", q, limit);
+        
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+        List<SemanticJobIndex.Match> matches = semanticJobIndex.search(q, normalizeLimit(limit));
+        
+        List<Long> ids = matches.stream().map(SemanticJobIndex.Match::jobId).toList();
+        Map<Long, Job> loaded = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+                .map(loaded::get)
+                .filter(job -> job != null && job.getStatus() == Job.JobStatus.OPEN)
+                .map(jobMapper::toResponseDto)
+                .toList();
+    }
+    
+    /**
+     * Open jobs most similar to the given job (skills, category, budget band and
+     * description terms), best first. Empty if the job does not exist.
+     */
+    public Optional<List<JobResponseDto>> getSimilarJobs(Long jobId, Integer k) {
+        log.info("Fetching jobs similar to job {} (k: {})", jobId, k);
+        
+        int limit = k == null ? DEFAULT_SIMILAR_LIMIT : Math.min(k, MAX_SIMILAR_LIMIT);
+        if (limit < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        
+        Optional<Job> job = jobRepository.findById(jobId);
+        if (job.isEmpty()) {
+            return Optional.empty();
+        }
+        List<SimilarJobIndex.Match> matches = similarJobIndex.similarTo(JobSnapshot.from(job.get()), limit);
+        
+        List<Long> ids = matches.stream().map(SimilarJobIndex.Match::jobId).toList();
+        Map<Long, Job> loaded = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return Optional.of(ids.stream()
+                .map(loaded::get)
+                .filter(similar -> similar != null && similar.getStatus() == Job.JobStatus.OPEN)
+                .map(jobMapper::toResponseDto)
+                .toList());
+    }
+    
+    /**
+     * One page of OPEN jobs ranked for the freelancer by how well they fit the
+     * skills and budgets of the jobs they bid on or worked on, plus urgency and
+     * recency. Ranking is recomputed per request, so pages are only stable while
+     * the set of open jobs does not change; the feed is capped at
+     * {@value #MAX_FEED_DEPTH} jobs.
+     */
+    public List<JobResponseDto> getFeed(Long freelancerId, Integer page, Integer size, boolean excludeApplied) {
+        log.info("Fetching job feed for freelancer {} (page: {}, size: {}, excludeApplied: {})",
+                freelancerId, page, size, excludeApplied);
+        
+        int pageSize = size == null ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        int pageNumber = page == null ? 0 : page;
+        if (pageSize < 1 || pageNumber < 0) {
+            throw new IllegalArgumentException("page must be at least 0 and size at least 1");
+        }
+        int from = pageNumber * pageSize;
+        if (from >= MAX_FEED_DEPTH) {
+            return List.of();
+        }
+        
+        FreelancerProfile profile = freelancerProfileCache.get(freelancerId);
+        RoaringBitmap excluded = excludeApplied ? appliedJobIndex.appliedJobs(freelancerId) : null;
+        List<JobFeedIndex.ScoredJob> ranked = jobFeedIndex.topK(profile, Math.min(from + pageSize, MAX_FEED_DEPTH),
+                excluded);
+        if (ranked.size() <= from) {
+            return List.of();
+        }
+        
+        List<Long> ids = ranked.subList(from, ranked.size()).stream().map(JobFeedIndex.ScoredJob::jobId).toList();
+        Map<Long, Job> loaded = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+                .map(loaded::get)
+                .filter(job -> job != null && job.getStatus() == Job.JobStatus.OPEN)
+                .map(jobMapper::toResponseDto)
+                .toList();
+    }
+    
+    /**
+     * Lucene resolves every filter and the ordering; only the page rows are loaded from the database.
+     */
+    private JobSearchPageDto searchWithLucene(LuceneJobIndex luceneIndex, JobSearchCriteria criteria, int limit,
+                                              RoaringBitmap excluded) {
+        JobSearchCursor after = hasCursor(criteria) ? JobSearchCursor.decode(criteria.getCursor()) : null;
+        
+        Map<Long, JobSearchCursor> cursors = new LinkedHashMap<>();
+        while (cursors.size() <= limit) {
+            List<LuceneJobIndex.Hit> hits = luceneIndex.search(criteria, after, limit + 1);
+            for (LuceneJobIndex.Hit hit : hits) {
+                if (!isExcluded(excluded, hit.jobId())) {
+                    cursors.put(hit.jobId(), hit.cursor());
+                    if (cursors.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            if (hits.size() <= limit) {
+                break; // no further hits in the index
+            }
+            after = hits.get(hits.size() - 1).cursor();
+        }
+        
+        Map<Long, Job> loaded = jobRepository.findAllById(cursors.keySet()).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = cursors.keySet().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        return toPage(jobs, limit, job -> cursors.get(job.getId()));
+    }
+    
+    /**
+     * Text searches page through the ranked full-text hits (ids only), apply the
+     * skill and budget filters from the bitmap index, and then load the page rows by primary key.
+     */
+    private JobSearchPageDto searchByText(JobSearchCriteria criteria, int limit, RoaringBitmap excluded) {
+        RoaringBitmap indexCandidates = indexCandidates(criteria);
+        String budgetType = criteria.getBudgetType() != null ? criteria.getBudgetType().name() : null;
+        
+        Float afterRank = null;
+        Long afterId = null;
+        if (hasCursor(criteria)) {
+            JobSearchCursor after = JobSearchCursor.decode(criteria.getCursor());
+            afterRank = after.rank();
+            afterId = after.id();
+        }
+        
+        Map<Long, Float> ranks = new HashMap<>();
+        List<Long> ids = new ArrayList<>(limit + 1);
+        while (ids.size() <= limit) {
+            List<JobRepository.RankedJobId> hits = jobRepository.searchOpenJobsByText(criteria.getQ().trim(),
+                    criteria.getCategory(), criteria.getIsUrgent(), budgetType,
+                    null, null, afterRank, afterId,
+                    PageRequest.ofSize(limit + 1));
+            if (hits.isEmpty()) {
+                break;
+            }
+            
+            for (JobRepository.RankedJobId hit : hits) {
+                if (isCandidate(indexCandidates, hit.getId()) && !isExcluded(excluded, hit.getId())) {
+                    ids.add(hit.getId());
+                    ranks.put(hit.getId(), hit.getRank());
+                    if (ids.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            JobRepository.RankedJobId last = hits.get(hits.size() - 1);
+            afterRank = last.getRank();
+            afterId = last.getId();
+            if (hits.size() <= limit) {
+                break; // no further hits in the database
+            }
+        }
+        
+        Map<Long, Job> loaded = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        return toPage(jobs, limit, job -> JobSearchCursor.ofRank(ranks.get(job.getId()), job.getId()));
+    }
+    
+    /**
+     * Skill and budget searches resolve candidate ids from the in-memory bitmap and
+     * interval indexes and only load the rows of the requested page by primary key.
+     */
+    private JobSearchPageDto searchByIndex(JobSearchCriteria criteria, int limit, RoaringBitmap excluded) {
+        RoaringBitmap candidates = openJobBitmapIndex.match(criteria.getSkills(),
+                Boolean.TRUE.equals(criteria.getMatchAllSkills()), criteria.getCategory(),
+                criteria.getBudgetType(), criteria.getIsUrgent(), criteria.getMinBudget(), criteria.getMaxBudget());
+        if (excluded != null) {
+            candidates = RoaringBitmap.andNot(candidates, excluded);
+        }
+        
+        JobSort sort = sortOf(criteria);
+        JobSearchCursor after = hasCursor(criteria) ? JobSearchCursor.decode(criteria.getCursor()) : null;
+        if (sort != JobSort.NEWEST) {
+            return searchByIndexSorted(criteria, candidates, sort, after, limit);
+        }
+        
+        // Ids are assigned in creation order, so the index pages newest first by id alone
+        Long beforeId = after != null ? after.newestId() : null;
+        List<Job> jobs = new ArrayList<>(limit + 1);
+        
+        // Rows are re-checked against the database, so keep pulling id batches until the page is full
+        while (jobs.size() <= limit) {
+            List<Long> ids = OpenJobBitmapIndex.newestIds(candidates, beforeId, limit + 1);
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            for (Job job : loadMatching(ids, criteria)) {
+                jobs.add(job);
+                if (jobs.size() > limit) {
+                    break;
+                }
+            }
+            beforeId = ids.get(ids.size() - 1);
+        }
+        
+        return toPage(jobs, limit, job -> JobSearchCursor.ofNewestId(job.getId()));
+    }
+    
+    /**
+     * Budget and urgent-first orderings of index candidates. Positions (and the cursors
+     * handed to clients) come from the index's own sort keys, so paging stays consistent
+     * even while a row's budget is being edited.
+     */
+    private JobSearchPageDto searchByIndexSorted(JobSearchCriteria criteria, RoaringBitmap candidates,
+                                                 JobSort sort, JobSearchCursor after, int limit) {
+        Map<Long, JobSearchCursor> cursors = new LinkedHashMap<>();
+        List<Job> jobs = new ArrayList<>(limit + 1);
+        while (jobs.size() <= limit) {
+            List<JobSearchCursor> positions = openJobBitmapIndex.sortedPositions(candidates, sort, after, limit + 1);
+            if (positions.isEmpty()) {
+                break;
+            }
+            positions.forEach(position -> cursors.put(position.id(), position));
+            
+            for (Job job : loadMatching(positions.stream().map(JobSearchCursor::id).toList(), criteria)) {
+                jobs.add(job);
+                if (jobs.size() > limit) {
+                    break;
+                }
+            }
+            after = positions.get(positions.size() - 1);
+        }
+        
+        return toPage(jobs, limit, job -> cursors.get(job.getId()));
+    }
+    
+    // Rows of the given ids, in the same order, that are still OPEN and in the budget range
+    private List<Job> loadMatching(List<Long> ids, JobSearchCriteria criteria) {
+        Map<Long, Job> loaded = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Job job = loaded.get(id);
+            if (job != null && job.getStatus() == Job.JobStatus.OPEN
+                    && matchesBudget(job, criteria.getMinBudget(), criteria.getMaxBudget())) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+    
+    // Same overlap rule as findOpenJobsByFilters; guards against a budget edit racing the index
+    private boolean matchesBudget(Job job, BigInteger minBudget, BigInteger maxBudget) {
+        if (minBudget == null || maxBudget == null) {
+            return true;
+        }
+        return job.getMinBudgetCents() != null && job.getMaxBudgetCents() != null
+                && job.getMinBudgetCents().compareTo(maxBudget) <= 0
+                && job.getMaxBudgetCents().compareTo(minBudget) >= 0;
+    }
+    
+    // Misspelled skills and categories are rewritten to values that open jobs use
+    private void expandTerms(JobSearchCriteria criteria) {
+        criteria.setCategory(fuzzyTermExpander.expandCategory(criteria.getCategory()));
+        criteria.setSkills(fuzzyTermExpander.expandSkills(criteria.getSkills(),
+                Boolean.TRUE.equals(criteria.getMatchAllSkills())));
+    }
+    
+    private boolean isCandidate(RoaringBitmap indexCandidates, Long jobId) {
+        return indexCandidates == null || indexCandidates.contains(OpenJobBitmapIndex.toBitmapId(jobId));
+    }
+    
+    private boolean isExcluded(RoaringBitmap excluded, Long jobId) {
+        return excluded != null && excluded.contains(OpenJobBitmapIndex.toBitmapId(jobId));
+    }
+    
+    // Null when neither skills nor a budget range are filtered on
+    private RoaringBitmap indexCandidates(JobSearchCriteria criteria) {
+        if (!hasSkills(criteria) && !hasBudgetRange(criteria)) {
+            return null;
+        }
+        return openJobBitmapIndex.match(criteria.getSkills(), Boolean.TRUE.equals(criteria.getMatchAllSkills()),
+                null, null, null, criteria.getMinBudget(), criteria.getMaxBudget());
+    }
+    
+    private boolean hasBudgetRange(JobSearchCriteria criteria) {
+        return criteria.getMinBudget() != null && criteria.getMaxBudget() != null;
+    }
+    
+    private boolean hasSkills(JobSearchCriteria criteria) {
+        return criteria.getSkills() != null && !criteria.getSkills().isEmpty();
+    }
+    
+    private boolean hasCursor(JobSearchCriteria criteria) {
+        return criteria.getCursor() != null && !criteria.getCursor().isBlank();
+    }
+
+    private JobSearchPageDto toPage(List<Job> jobs, int limit, Function<Job, JobSearchCursor> cursorOf) {
+        String nextCursor = null;
+        if (jobs.size() > limit) {
+            jobs = jobs.subList(0, limit);
+            nextCursor = cursorOf.apply(jobs.get(limit - 1)).encode();
+        }
+
+        List<JobResponseDto> items = jobs.stream()
                 .map(jobMapper::toResponseDto)
                 .toList();
+        return new JobSearchPageDto(items, nextCursor, null);
+    }
+
+    private int normalizeSuggestLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_SUGGEST_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_SUGGEST_LIMIT);
+    }
+
+    private int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_SEARCH_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_SEARCH_LIMIT);
     }
 }
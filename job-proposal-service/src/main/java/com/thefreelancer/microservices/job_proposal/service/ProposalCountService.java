@@ -0,0 +1,67 @@
+package com.thefreelancer.microservices.job_proposal.service;
+
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the per-job proposal counters ({@code Job.proposalCounts}) in step with
+ * proposal writes. Every change is applied as one atomic increment of the jobs
+ * row inside the caller's transaction, so the counters commit or roll back
+ * together with the proposal itself.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProposalCountService {
+    
+    private final JobRepository jobRepository;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void proposalCreated(Long jobId, Proposal.ProposalStatus status) {
+        adjust(jobId, 1, status != null ? Map.of(status, 1) : Map.of());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void proposalDeleted(Long jobId, Proposal.ProposalStatus status) {
+        adjust(jobId, -1, status != null ? Map.of(status, -1) : Map.of());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(Long jobId, Proposal.ProposalStatus from, Proposal.ProposalStatus to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        Map<Proposal.ProposalStatus, Integer> deltas = new EnumMap<>(Proposal.ProposalStatus.class);
+        if (from != null) {
+            deltas.put(from, -1);
+        }
+        if (to != null) {
+            deltas.put(to, 1);
+        }
+        adjust(jobId, 0, deltas);
+    }
+    
+    private void adjust(Long jobId, int total, Map<Proposal.ProposalStatus, Integer> deltas) {
+        if (jobId == null) {
+            return;
+        }
+        int updated = jobRepository.adjustProposalCounts(jobId, total,
+                deltas.getOrDefault(Proposal.ProposalStatus.SUBMITTED, 0),
+                deltas.getOrDefault(Proposal.ProposalStatus.WITHDRAWN, 0),
+                deltas.getOrDefault(Proposal.ProposalStatus.DECLINED, 0),
+                deltas.getOrDefault(Proposal.ProposalStatus.ACCEPTED, 0),
+                deltas.getOrDefault(Proposal.ProposalStatus.CONTRACTED, 0));
+        if (updated == 0) {
+            log.warn("No job {} to update proposal counts for", jobId);
+        }
+    }
+}
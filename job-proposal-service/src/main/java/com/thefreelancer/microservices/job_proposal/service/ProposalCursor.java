@@ -0,0 +1,84 @@
+package com.thefreelancer.microservices.job_proposal.service;
+
+import com.thefreelancer.microservices.job_proposal.dto.ProposalSort;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in an ordered list of proposals: the sort key of the last
+ * returned proposal plus its id as a tie-breaker. Clients only ever see the
+ * encoded, opaque form.
+ */
+public record ProposalCursor(ProposalSort sort, String value, Long id) {
+    
+    // Sort keys of proposals without a price or delivery days, so they come last
+    static final BigInteger NO_PRICE = BigInteger.valueOf(Long.MAX_VALUE);
+    static final int NO_DELIVERY_DAYS = Integer.MAX_VALUE;
+    
+    private static final String SEPARATOR = "|";
+    
+    public static ProposalCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new ProposalCursor(ProposalSort.NEWEST, createdAt.toString(), id);
+    }
+    
+    public static ProposalCursor ofPrice(BigInteger totalCents, Long id) {
+        return new ProposalCursor(ProposalSort.PRICE_LOW, (totalCents != null ? totalCents : NO_PRICE).toString(), id);
+    }
+    
+    public static ProposalCursor ofDeliveryDays(Integer deliveryDays, Long id) {
+        return new ProposalCursor(ProposalSort.FASTEST,
+                Integer.toString(deliveryDays != null ? deliveryDays : NO_DELIVERY_DAYS), id);
+    }
+    
+    public LocalDateTime createdAt() {
+        requireSort(ProposalSort.NEWEST);
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value: " + value, e);
+        }
+    }
+    
+    public BigInteger price() {
+        requireSort(ProposalSort.PRICE_LOW);
+        return new BigInteger(value);
+    }
+    
+    public int deliveryDays() {
+        requireSort(ProposalSort.FASTEST);
+        return Integer.parseInt(value);
+    }
+    
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decode a cursor previously produced by {@link #encode()}
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ProposalCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new ProposalCursor(ProposalSort.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+    
+    private void requireSort(ProposalSort expected) {
+        if (sort != expected) {
+            throw new IllegalArgumentException("Cursor belongs to a different proposal ordering");
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.thefreelancer.microservices.job_proposal.service;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalMilestoneCreateDto;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalMilestoneResponseDto;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalMilestoneUpdateDto;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.ProposalSnapshot;
 import com.thefreelancer.microservices.job_proposal.model.ProposalMilestone;
 import com.thefreelancer.microservices.job_proposal.model.Proposal;
 import com.thefreelancer.microservices.job_proposal.mapper.ProposalMilestoneMapper;
@@ -11,6 +13,7 @@ import com.thefreelancer.microservices.job_proposal.repository.ProposalRepositor
 import com.thefreelancer.microservices.job_proposal.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,7 @@ public class ProposalMilestoneService {
     private final ProposalMilestoneRepository proposalMilestoneRepository;
     private final ProposalRepository proposalRepository;
     private final ProposalMilestoneMapper proposalMilestoneMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     public ProposalMilestoneResponseDto createMilestone(Long proposalId, ProposalMilestoneCreateDto createDto) {
         log.info("Creating milestone for proposal: {}", proposalId);
@@ -41,6 +45,7 @@ public class ProposalMilestoneService {
         milestone.setProposal(proposal); // Set the proposal relationship
         
         ProposalMilestone savedMilestone = proposalMilestoneRepository.save(milestone);
+        publishMilestonesChanged(proposal);
         
         log.info("Milestone created successfully with ID: {}", savedMilestone.getId());
         return proposalMilestoneMapper.toResponseDto(savedMilestone);
@@ -75,6 +80,7 @@ public class ProposalMilestoneService {
         
         proposalMilestoneMapper.updateEntityFromDto(updateDto, existingMilestone);
         ProposalMilestone updatedMilestone = proposalMilestoneRepository.save(existingMilestone);
+        publishMilestonesChanged(updatedMilestone.getProposal());
         
         log.info("Milestone updated successfully: {}", milestoneId);
         return proposalMilestoneMapper.toResponseDto(updatedMilestone);
@@ -89,6 +95,7 @@ public class ProposalMilestoneService {
         // TODO: Add validation for milestone ownership by authenticated user
         
         proposalMilestoneRepository.delete(existingMilestone);
+        publishMilestonesChanged(existingMilestone.getProposal());
         log.info("Milestone deleted successfully: {}", milestoneId);
     }
     
@@ -101,4 +108,10 @@ public class ProposalMilestoneService {
         
         return proposalMilestoneMapper.toResponseDto(milestone);
     }
+    
+    // The proposal's own fields are unchanged, but read models derived from its milestones are not
+    private void publishMilestonesChanged(Proposal proposal) {
+        ProposalSnapshot snapshot = ProposalSnapshot.from(proposal);
+        eventPublisher.publishEvent(ProposalChangedEvent.updated(snapshot, snapshot));
+    }
 }
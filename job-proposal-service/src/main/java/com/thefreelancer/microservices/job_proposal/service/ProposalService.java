@@ -1,20 +1,36 @@
 package com.thefreelancer.microservices.job_proposal.service;
 
 import com.thefreelancer.microservices.job_proposal.dto.ProposalCreateDto;
+import com.thefreelancer.microservices.job_proposal.dto.ProposalPageDto;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.ProposalSort;
 import com.thefreelancer.microservices.job_proposal.dto.ProposalUpdateDto;
+import com.thefreelancer.microservices.job_proposal.dto.RankedProposalDto;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.ProposalSnapshot;
 import com.thefreelancer.microservices.job_proposal.model.Job;
 import com.thefreelancer.microservices.job_proposal.model.Proposal;
 import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
 import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
 import com.thefreelancer.microservices.job_proposal.mapper.ProposalMapper;
+import com.thefreelancer.microservices.job_proposal.service.ranking.ProposalFeatureStore;
+import com.thefreelancer.microservices.job_proposal.service.ranking.ProposalFeatures;
+import com.thefreelancer.microservices.job_proposal.service.ranking.ProposalRanker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,30 +38,57 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProposalService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SHORTLIST_SIZE = 10;
+    private static final int MAX_SHORTLIST_SIZE = 50;
+    
     private final ProposalRepository proposalRepository;
     private final JobRepository jobRepository;
     private final ProposalMapper proposalMapper;
+    private final ProposalCountService proposalCountService;
+    private final JobBidStatsService jobBidStatsService;
+    private final ProposalFeatureStore proposalFeatureStore;
+    private final ApplicationEventPublisher eventPublisher;
     
+    /**
+     * One page of the freelancer's proposals, newest first, optionally filtered by
+     * status. Read through a projection in a single query: no Proposal or Job
+     * entities are loaded.
+     */
     @Transactional(readOnly = true)
-    public List<ProposalResponseDto> getMyProposals(Long freelancerId, String status) {
-        log.info("Fetching proposals for freelancer: {} with status: {}", freelancerId, status);
+    public ProposalPageDto getMyProposals(Long freelancerId, String status, String cursor, Integer limit) {
+        log.info("Fetching proposals for freelancer: {} with status: {} (limit: {})", freelancerId, status, limit);
         
-        List<Proposal> proposals;
+        Proposal.ProposalStatus statusEnum = null;
         if (status != null && !status.trim().isEmpty()) {
             try {
-                Proposal.ProposalStatus statusEnum = Proposal.ProposalStatus.valueOf(status.toUpperCase());
-                proposals = proposalRepository.findByFreelancerIdAndStatusOrderByCreatedAtDesc(freelancerId, statusEnum);
+                statusEnum = Proposal.ProposalStatus.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 log.warn("Invalid status: {}", status);
-                proposals = List.of(); // Return empty list for invalid status
+                return new ProposalPageDto(List.of(), null); // Return empty page for invalid status
             }
-        } else {
-            proposals = proposalRepository.findByFreelancerIdOrderByCreatedAtDesc(freelancerId);
         }
         
-        return proposals.stream()
+        int pageSize = normalizeLimit(limit);
+        ProposalCursor after = cursor != null && !cursor.isBlank()
+                ? ProposalCursor.decode(cursor)
+                : startOf(ProposalSort.NEWEST);
+        
+        // Fetch one extra row to know whether another page exists
+        List<ProposalRepository.ProposalSummary> rows = proposalRepository.findSummariesByFreelancerId(
+                freelancerId, statusEnum, after.createdAt(), after.id(), PageRequest.ofSize(pageSize + 1));
+        
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ProposalRepository.ProposalSummary last = rows.get(pageSize - 1);
+            nextCursor = ProposalCursor.ofCreatedAt(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<ProposalResponseDto> items = rows.stream()
                 .map(proposalMapper::toResponseDto)
-                .collect(Collectors.toList());
+                .toList();
+        return new ProposalPageDto(items, nextCursor);
     }
     
     @Transactional
@@ -62,6 +105,11 @@ public class ProposalService {
         Proposal savedProposal = proposalRepository.save(proposal);
         log.info("Proposal created successfully with ID: {}", savedProposal.getId());
         
+        ProposalSnapshot created = ProposalSnapshot.from(savedProposal);
+        proposalCountService.proposalCreated(proposalCreateDto.getJobId(), savedProposal.getStatus());
+        jobBidStatsService.proposalChanged(null, created);
+        eventPublisher.publishEvent(ProposalChangedEvent.created(created));
+        
         return proposalMapper.toResponseDto(savedProposal);
     }
     
@@ -75,11 +123,17 @@ public class ProposalService {
         // TODO: Add ownership validation
         // TODO: Check if proposal is still in a state that allows updates (e.g., not ACCEPTED)
         
+        ProposalSnapshot previous = ProposalSnapshot.from(proposal);
         proposalMapper.updateEntityFromDto(proposalUpdateDto, proposal);
         
         Proposal updatedProposal = proposalRepository.save(proposal);
         log.info("Proposal updated successfully: {}", proposalId);
         
+        ProposalSnapshot current = ProposalSnapshot.from(updatedProposal);
+        proposalCountService.statusChanged(previous.getJobId(), previous.getStatus(), updatedProposal.getStatus());
+        jobBidStatsService.proposalChanged(previous, current);
+        eventPublisher.publishEvent(ProposalChangedEvent.updated(previous, current));
+        
         return proposalMapper.toResponseDto(updatedProposal);
     }
     
@@ -95,6 +149,11 @@ public class ProposalService {
         
         proposalRepository.delete(proposal);
         log.info("Proposal deleted successfully: {}", proposalId);
+        
+        ProposalSnapshot deleted = ProposalSnapshot.from(proposal);
+        proposalCountService.proposalDeleted(deleted.getJobId(), deleted.getStatus());
+        jobBidStatsService.proposalChanged(deleted, null);
+        eventPublisher.publishEvent(ProposalChangedEvent.deleted(deleted));
     }
     
     @Transactional(readOnly = true)
@@ -116,9 +175,15 @@ public class ProposalService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * One page of a job's proposals for the client that owns the job, in the given
+     * order (newest first when null). Only the page rows are read, through a keyset
+     * range on a (job_id, ...) index.
+     */
     @Transactional(readOnly = true)
-    public List<ProposalResponseDto> getProposalsForJobByClient(Long jobId, Long clientId) {
-        log.info("Fetching proposals for job: {} by client: {}", jobId, clientId);
+    public ProposalPageDto getProposalsForJobByClient(Long jobId, Long clientId, ProposalSort sort,
+                                                      String cursor, Integer limit) {
+        log.info("Fetching proposals for job: {} by client: {} (sort: {}, limit: {})", jobId, clientId, sort, limit);
         
         // First validate that the client owns the job
         Job job = jobRepository.findById(jobId)
@@ -128,10 +193,103 @@ public class ProposalService {
             throw new RuntimeException("Access denied: You can only view proposals for your own jobs");
         }
         
-        List<Proposal> proposals = proposalRepository.findByJobIdOrderByCreatedAtDesc(jobId);
+        ProposalSort order = sort != null ? sort : ProposalSort.NEWEST;
+        int pageSize = normalizeLimit(limit);
+        ProposalCursor after = cursor != null && !cursor.isBlank() ? ProposalCursor.decode(cursor) : startOf(order);
         
-        return proposals.stream()
+        // Fetch one extra row to know whether another page exists
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        List<Proposal> proposals = switch (order) {
+            case NEWEST -> proposalRepository.findPageByJobIdNewest(jobId, after.createdAt(), after.id(), pageable);
+            case PRICE_LOW -> proposalRepository.findPageByJobIdCheapest(jobId, after.price(), after.id(), pageable);
+            case FASTEST -> proposalRepository.findPageByJobIdFastest(jobId, after.deliveryDays(), after.id(), pageable);
+        };
+        
+        String nextCursor = null;
+        if (proposals.size() > pageSize) {
+            proposals = proposals.subList(0, pageSize);
+            nextCursor = cursorOf(proposals.get(pageSize - 1), order).encode();
+        }
+        // The job is already in the persistence context, so mapping its title costs no query
+        List<ProposalResponseDto> items = proposals.stream()
                 .map(proposalMapper::toResponseDto)
-                .collect(Collectors.toList());
+                .toList();
+        return new ProposalPageDto(items, nextCursor);
+    }
+    
+    /**
+     * The {@code k} best open proposals of a job for the client that owns it, scored by
+     * {@link ProposalRanker} over the job's cached feature rows. Only the winners are
+     * loaded as entities.
+     */
+    @Transactional(readOnly = true)
+    public List<RankedProposalDto> getRankedProposalsForJob(Long jobId, Long clientId, Integer k) {
+        log.info("Ranking proposals for job: {} by client: {} (k: {})", jobId, clientId, k);
+        
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
+        
+        if (!job.getClientId().equals(clientId)) {
+            throw new RuntimeException("Access denied: You can only view proposals for your own jobs");
+        }
+        
+        int size = normalizeShortlistSize(k);
+        Collection<ProposalFeatures> features = proposalFeatureStore.featuresOf(jobId);
+        Map<Long, Integer> completedContracts = proposalFeatureStore.completedContractsOf(features.stream()
+                .filter(ProposalFeatures::isRankable)
+                .map(ProposalFeatures::freelancerId)
+                .collect(Collectors.toSet()));
+        List<ProposalRanker.RankedProposal> ranked = ProposalRanker.topK(job.getMinBudgetCents(),
+                job.getMaxBudgetCents(), features, id -> completedContracts.getOrDefault(id, 0), size);
+        
+        Map<Long, Proposal> proposals = proposalRepository.findAllById(ranked.stream()
+                        .map(ProposalRanker.RankedProposal::proposalId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Proposal::getId, Function.identity()));
+        // A proposal deleted since its row was read is simply left out
+        return ranked.stream()
+                .filter(entry -> proposals.containsKey(entry.proposalId()))
+                .map(entry -> new RankedProposalDto(proposalMapper.toResponseDto(proposals.get(entry.proposalId())),
+                        entry.score(), entry.priceFit(), entry.deliverySpeed(), entry.milestoneCompleteness(),
+                        entry.trackRecord(), entry.completedContracts()))
+                .toList();
+    }
+    
+    // A keyset position before every proposal, so the first page uses the same index range as the rest
+    private static ProposalCursor startOf(ProposalSort sort) {
+        return switch (sort) {
+            case NEWEST -> ProposalCursor.ofCreatedAt(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+            case PRICE_LOW -> ProposalCursor.ofPrice(BigInteger.ONE.negate(), Long.MIN_VALUE);
+            case FASTEST -> ProposalCursor.ofDeliveryDays(Integer.MIN_VALUE, Long.MIN_VALUE);
+        };
+    }
+    
+    private static ProposalCursor cursorOf(Proposal proposal, ProposalSort sort) {
+        return switch (sort) {
+            case NEWEST -> ProposalCursor.ofCreatedAt(proposal.getCreatedAt(), proposal.getId());
+            case PRICE_LOW -> ProposalCursor.ofPrice(proposal.getTotalCents(), proposal.getId());
+            case FASTEST -> ProposalCursor.ofDeliveryDays(proposal.getDeliveryDays(), proposal.getId());
+        };
+    }
+    
+    private static int normalizeShortlistSize(Integer k) {
+        if (k == null) {
+            return DEFAULT_SHORTLIST_SIZE;
+        }
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        return Math.min(k, MAX_SHORTLIST_SIZE);
+    }
+    
+    private static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 }
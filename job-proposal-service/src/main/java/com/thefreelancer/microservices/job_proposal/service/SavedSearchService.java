@@ -0,0 +1,73 @@
+package com.thefreelancer.microservices.job_proposal.service;
+
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchCreateDto;
+import com.thefreelancer.microservices.job_proposal.dto.SavedSearchResponseDto;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchSnapshot;
+import com.thefreelancer.microservices.job_proposal.exception.ResourceNotFoundException;
+import com.thefreelancer.microservices.job_proposal.mapper.SavedSearchMapper;
+import com.thefreelancer.microservices.job_proposal.model.SavedSearch;
+import com.thefreelancer.microservices.job_proposal.repository.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchService {
+    
+    private static final int MAX_SAVED_SEARCHES_PER_FREELANCER = 50;
+    
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMapper savedSearchMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public SavedSearchResponseDto createSavedSearch(SavedSearchCreateDto createDto, Long freelancerId) {
+        log.info("Creating saved search for freelancerId: {}", freelancerId);
+        
+        if (createDto.getMinBudgetCents() != null && createDto.getMaxBudgetCents() != null
+                && createDto.getMinBudgetCents().compareTo(createDto.getMaxBudgetCents()) > 0) {
+            throw new RuntimeException("Minimum budget cannot be greater than maximum budget");
+        }
+        if (savedSearchRepository.countByFreelancerId(freelancerId) >= MAX_SAVED_SEARCHES_PER_FREELANCER) {
+            throw new RuntimeException("A freelancer can have at most " + MAX_SAVED_SEARCHES_PER_FREELANCER + " saved searches");
+        }
+        
+        SavedSearch savedSearch = savedSearchMapper.toEntity(createDto);
+        savedSearch.setFreelancerId(freelancerId);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        
+        eventPublisher.publishEvent(SavedSearchChangedEvent.saved(SavedSearchSnapshot.from(saved)));
+        
+        log.info("Created saved search {} for freelancerId: {}", saved.getId(), freelancerId);
+        return savedSearchMapper.toResponseDto(saved);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponseDto> getSavedSearches(Long freelancerId) {
+        log.info("Fetching saved searches for freelancerId: {}", freelancerId);
+        
+        return savedSearchRepository.findByFreelancerIdOrderByCreatedAtDesc(freelancerId)
+                .stream()
+                .map(savedSearchMapper::toResponseDto)
+                .toList();
+    }
+    
+    @Transactional
+    public void deleteSavedSearch(Long savedSearchId, Long freelancerId) {
+        log.info("Deleting saved search {} for freelancerId: {}", savedSearchId, freelancerId);
+        
+        SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+                .filter(search -> search.getFreelancerId().equals(freelancerId))
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with ID: " + savedSearchId));
+        
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.deleted(savedSearchId));
+    }
+}
@@ -0,0 +1,146 @@
+package com.thefreelancer.microservices.job_proposal.service.feed;
+
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.service.search.SearchTerms;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/**
+ * What a freelancer works on, inferred from the jobs they sent proposals to and
+ * the jobs they were contracted for. Immutable: updates return a new profile,
+ * so cached instances can be read without locking.
+ */
+public final class FreelancerProfile {
+    
+    static final float PROPOSAL_WEIGHT = 1.0f;
+    static final float CONTRACT_WEIGHT = 3.0f;
+    
+    public static final FreelancerProfile EMPTY = new FreelancerProfile(Map.of(), 0, 0, Set.of(), Set.of());
+    
+    private final Map<String, Float> skillWeights; // normalized skill -> accumulated weight
+    private final double logBudgetSum;             // weighted sum of ln(max budget)
+    private final double budgetWeight;
+    private final Set<Long> proposalJobIds;        // jobs already counted, so replays are harmless
+    private final Set<Long> contractJobIds;
+    private final float maxSkillWeight;
+    
+    private FreelancerProfile(Map<String, Float> skillWeights, double logBudgetSum, double budgetWeight,
+                              Set<Long> proposalJobIds, Set<Long> contractJobIds) {
+        this.skillWeights = skillWeights;
+        this.logBudgetSum = logBudgetSum;
+        this.budgetWeight = budgetWeight;
+        this.proposalJobIds = proposalJobIds;
+        this.contractJobIds = contractJobIds;
+        this.maxSkillWeight = (float) skillWeights.values().stream().mapToDouble(Float::doubleValue).max().orElse(0);
+    }
+    
+    /**
+     * Profile of a freelancer who sent proposals to {@code proposalJobs} and was
+     * contracted for {@code contractJobs}
+     */
+    public static FreelancerProfile of(Collection<JobSnapshot> proposalJobs, Collection<JobSnapshot> contractJobs) {
+        Accumulator accumulator = new Accumulator(Map.of(), 0, 0);
+        Set<Long> proposals = new HashSet<>();
+        Set<Long> contracts = new HashSet<>();
+        proposalJobs.stream().filter(job -> proposals.add(job.getId())).forEach(job -> accumulator.add(job, PROPOSAL_WEIGHT));
+        contractJobs.stream().filter(job -> contracts.add(job.getId())).forEach(job -> accumulator.add(job, CONTRACT_WEIGHT));
+        return accumulator.build(proposals, contracts);
+    }
+    
+    public FreelancerProfile withProposalFor(JobSnapshot job) {
+        if (proposalJobIds.contains(job.getId())) {
+            return this;
+        }
+        Set<Long> proposals = new HashSet<>(proposalJobIds);
+        proposals.add(job.getId());
+        return plus(job, PROPOSAL_WEIGHT, proposals, contractJobIds);
+    }
+    
+    public FreelancerProfile withContractFor(JobSnapshot job) {
+        if (contractJobIds.contains(job.getId())) {
+            return this;
+        }
+        Set<Long> contracts = new HashSet<>(contractJobIds);
+        contracts.add(job.getId());
+        return plus(job, CONTRACT_WEIGHT, proposalJobIds, contracts);
+    }
+    
+    public boolean isEmpty() {
+        return skillWeights.isEmpty() && budgetWeight == 0;
+    }
+    
+    /**
+     * How well a job's skills fit this profile, from 0 to 1. Jobs listing many
+     * skills are damped so that a long skill list alone does not win.
+     */
+    public double skillAffinity(Collection<String> normalizedJobSkills) {
+        if (maxSkillWeight == 0 || normalizedJobSkills.isEmpty()) {
+            return 0;
+        }
+        double sum = 0;
+        for (String skill : normalizedJobSkills) {
+            sum += skillWeights.getOrDefault(skill, 0f);
+        }
+        return Math.min(1.0, sum / maxSkillWeight / Math.sqrt(normalizedJobSkills.size()));
+    }
+    
+    /**
+     * Natural log of the typical max budget of the jobs in this profile, if any had one
+     */
+    public OptionalDouble typicalLogBudget() {
+        return budgetWeight > 0 ? OptionalDouble.of(logBudgetSum / budgetWeight) : OptionalDouble.empty();
+    }
+    
+    public List<String> topSkills(int limit) {
+        return skillWeights.entrySet().stream()
+                .sorted(Map.Entry.<String, Float>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+    
+    private FreelancerProfile plus(JobSnapshot job, float weight, Set<Long> proposals, Set<Long> contracts) {
+        Accumulator accumulator = new Accumulator(skillWeights, logBudgetSum, budgetWeight);
+        accumulator.add(job, weight);
+        return accumulator.build(proposals, contracts);
+    }
+    
+    private static final class Accumulator {
+        private final Map<String, Float> skills;
+        private double logBudgetSum;
+        private double budgetWeight;
+        
+        Accumulator(Map<String, Float> skills, double logBudgetSum, double budgetWeight) {
+            this.skills = new HashMap<>(skills);
+            this.logBudgetSum = logBudgetSum;
+            this.budgetWeight = budgetWeight;
+        }
+        
+        void add(JobSnapshot job, float weight) {
+            Set<String> jobSkills = new HashSet<>();
+            for (String skill : job.getSkills()) {
+                String key = SearchTerms.normalize(skill);
+                if (key != null && jobSkills.add(key)) {
+                    skills.merge(key, weight, Float::sum);
+                }
+            }
+            if (job.getMaxBudgetCents() != null && job.getMaxBudgetCents().signum() > 0) {
+                logBudgetSum += weight * Math.log(job.getMaxBudgetCents().doubleValue());
+                budgetWeight += weight;
+            }
+        }
+        
+        FreelancerProfile build(Set<Long> proposals, Set<Long> contracts) {
+            return new FreelancerProfile(Map.copyOf(skills), logBudgetSum, budgetWeight,
+                    Set.copyOf(proposals), Set.copyOf(contracts));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.thefreelancer.microservices.job_proposal.service.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thefreelancer.microservices.job_proposal.event.ContractChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.repository.ContractRepository;
+import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-freelancer {@link FreelancerProfile}s. A profile is built from the
+ * database on first use and afterwards kept current from proposal and contract
+ * events: a new proposal or contract adds that one job to the cached profile
+ * instead of rebuilding it. Profiles that are not cached are left alone; the
+ * next read builds them with the change included.
+ */
+@Component
+@Slf4j
+public class FreelancerProfileCache {
+    
+    private final ProposalRepository proposalRepository;
+    private final ContractRepository contractRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, FreelancerProfile> profiles;
+    
+    public FreelancerProfileCache(ProposalRepository proposalRepository,
+                                  ContractRepository contractRepository,
+                                  JobRepository jobRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${jobs.feed.profile-cache.max-size:10000}") long maxSize,
+                                  @Value("${jobs.feed.profile-cache.idle-minutes:30}") long idleMinutes) {
+        this.proposalRepository = proposalRepository;
+        this.contractRepository = contractRepository;
+        this.jobRepository = jobRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+    
+    public FreelancerProfile get(Long freelancerId) {
+        return profiles.get(freelancerId, this::load);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalChanged(ProposalChangedEvent event) {
+        if (event.getType() != ProposalChangedEvent.Type.CREATED) {
+            return;
+        }
+        apply(event.getFreelancerId(), event.getJobId(), FreelancerProfile::withProposalFor);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContractChanged(ContractChangedEvent event) {
+        if (!event.isCreated()) {
+            return;
+        }
+        apply(event.getFreelancerId(), event.getJobId(), FreelancerProfile::withContractFor);
+    }
+    
+    private void apply(Long freelancerId, Long jobId,
+                       BiFunction<FreelancerProfile, JobSnapshot, FreelancerProfile> update) {
+        if (freelancerId == null || jobId == null || profiles.getIfPresent(freelancerId) == null) {
+            return;
+        }
+        Optional<JobSnapshot> job = readOnlyTransaction.execute(status ->
+                jobRepository.findById(jobId).map(JobSnapshot::from));
+        if (job == null || job.isEmpty()) {
+            return;
+        }
+        // The profile keeps track of the jobs it has counted, so racing a fresh load cannot count twice
+        profiles.asMap().computeIfPresent(freelancerId, (id, profile) -> update.apply(profile, job.get()));
+    }
+    
+    private FreelancerProfile load(Long freelancerId) {
+        FreelancerProfile profile = readOnlyTransaction.execute(status -> {
+            Set<Long> proposalJobIds = new HashSet<>(proposalRepository.findJobIdsByFreelancerId(freelancerId));
+            Set<Long> contractJobIds = new HashSet<>(contractRepository.findJobIdsByFreelancerId(freelancerId));
+            
+            Set<Long> jobIds = new HashSet<>(proposalJobIds);
+            jobIds.addAll(contractJobIds);
+            Map<Long, JobSnapshot> jobs = jobRepository.findAllById(jobIds).stream()
+                    .map(JobSnapshot::from)
+                    .collect(Collectors.toMap(JobSnapshot::getId, Function.identity()));
+            return FreelancerProfile.of(
+                    proposalJobIds.stream().map(jobs::get).filter(Objects::nonNull).toList(),
+                    contractJobIds.stream().map(jobs::get).filter(Objects::nonNull).toList());
+        });
+        log.debug("Built feed profile for freelancer {}", freelancerId);
+        return profile != null ? profile : FreelancerProfile.EMPTY;
+    }
+}
@@ -0,0 +1,186 @@
+package com.thefreelancer.microservices.job_proposal.service.feed;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.service.search.OpenJobBitmapIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SearchTerms;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Scoring features of every OPEN job for the personalized feed.
+ * <p>
+ * Candidates are the jobs sharing one of the freelancer's strongest skills
+ * (newest first, capped); a freelancer without history gets the newest open
+ * jobs. Each candidate is scored by skill affinity, budget fit, urgency and
+ * recency, and the best {@code k} are kept in a bounded min-heap.
+ */
+@Component
+public class JobFeedIndex {
+    
+    private static final int MAX_CANDIDATES = 5000;
+    private static final int PROFILE_SKILLS = 20;
+    
+    private static final double SKILL_WEIGHT = 0.55;
+    private static final double BUDGET_WEIGHT = 0.2;
+    private static final double URGENCY_WEIGHT = 0.1;
+    private static final double RECENCY_WEIGHT = 0.15;
+    
+    private static final double UNKNOWN_BUDGET_FIT = 0.5;
+    private static final double RECENCY_HALF_LIFE_HOURS = 7 * 24;
+    
+    public record ScoredJob(Long jobId, double score) {
+    }
+    
+    private record FeedJob(Set<String> skills, Double logBudget, boolean urgent, LocalDateTime createdAt) {
+    }
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<Long, FeedJob> jobs = new HashMap<>();
+    private final Map<String, RoaringBitmap> jobsBySkill = new HashMap<>();
+    private final RoaringBitmap openJobs = new RoaringBitmap();
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.wasOpen()) {
+                remove(event.getPrevious());
+            }
+            if (event.isOpen()) {
+                add(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Up to {@code k} OPEN jobs ranked for the given profile, best first
+     *
+     * @param excluded job ids to leave out (bitmap ids), or null
+     */
+    public List<ScoredJob> topK(FreelancerProfile profile, int k, RoaringBitmap excluded) {
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            PriorityQueue<ScoredJob> heap = new PriorityQueue<>(k + 1,
+                    Comparator.comparingDouble(ScoredJob::score).thenComparing(ScoredJob::jobId));
+            RoaringBitmap candidateIds = candidatesOf(profile);
+            if (excluded != null) {
+                candidateIds = RoaringBitmap.andNot(candidateIds, excluded);
+            }
+            IntIterator candidates = candidateIds.getReverseIntIterator(); // newest first
+            int visited = 0;
+            while (candidates.hasNext() && visited < MAX_CANDIDATES) {
+                long jobId = Integer.toUnsignedLong(candidates.next());
+                visited++;
+                FeedJob job = jobs.get(jobId);
+                if (job == null) {
+                    continue;
+                }
+                double score = score(profile, job, now);
+                if (heap.size() < k) {
+                    heap.add(new ScoredJob(jobId, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new ScoredJob(jobId, score));
+                }
+            }
+            
+            List<ScoredJob> ranked = new ArrayList<>(heap);
+            ranked.sort(Comparator.comparingDouble(ScoredJob::score).reversed()
+                    .thenComparing(ScoredJob::jobId, Comparator.reverseOrder()));
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private RoaringBitmap candidatesOf(FreelancerProfile profile) {
+        List<RoaringBitmap> postings = new ArrayList<>();
+        for (String skill : profile.topSkills(PROFILE_SKILLS)) {
+            RoaringBitmap bitmap = jobsBySkill.get(skill);
+            if (bitmap != null) {
+                postings.add(bitmap);
+            }
+        }
+        return postings.isEmpty() ? openJobs : FastAggregation.or(postings.toArray(new RoaringBitmap[0]));
+    }
+    
+    private static double score(FreelancerProfile profile, FeedJob job, LocalDateTime now) {
+        double skills = profile.skillAffinity(job.skills());
+        
+        double budget = UNKNOWN_BUDGET_FIT;
+        OptionalDouble typical = profile.typicalLogBudget();
+        if (typical.isPresent() && job.logBudget() != null) {
+            // 1 at the freelancer's usual budget, 0.5 at half or double of it
+            budget = Math.pow(0.5, Math.abs(job.logBudget() - typical.getAsDouble()) / Math.log(2));
+        }
+        
+        double recency = 0;
+        if (job.createdAt() != null) {
+            double ageHours = Math.max(0, Duration.between(job.createdAt(), now).toMinutes() / 60.0);
+            recency = Math.pow(0.5, ageHours / RECENCY_HALF_LIFE_HOURS);
+        }
+        
+        return SKILL_WEIGHT * skills
+                + BUDGET_WEIGHT * budget
+                + URGENCY_WEIGHT * (job.urgent() ? 1 : 0)
+                + RECENCY_WEIGHT * recency;
+    }
+    
+    private void add(JobSnapshot job) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                skills.add(key);
+            }
+        }
+        BigInteger maxBudget = job.getMaxBudgetCents();
+        Double logBudget = maxBudget != null && maxBudget.signum() > 0 ? Math.log(maxBudget.doubleValue()) : null;
+        jobs.put(job.getId(), new FeedJob(Set.copyOf(skills), logBudget, job.isUrgent(), job.getCreatedAt()));
+        
+        int id = OpenJobBitmapIndex.toBitmapId(job.getId());
+        openJobs.add(id);
+        skills.forEach(skill -> jobsBySkill.computeIfAbsent(skill, s -> new RoaringBitmap()).add(id));
+    }
+    
+    private void remove(JobSnapshot job) {
+        FeedJob removed = jobs.remove(job.getId());
+        if (removed == null) {
+            return;
+        }
+        int id = OpenJobBitmapIndex.toBitmapId(job.getId());
+        openJobs.remove(id);
+        for (String skill : removed.skills()) {
+            RoaringBitmap bitmap = jobsBySkill.get(skill);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    jobsBySkill.remove(skill);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.thefreelancer.microservices.job_proposal.service.ranking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thefreelancer.microservices.job_proposal.event.ContractChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.model.Contract;
+import com.thefreelancer.microservices.job_proposal.repository.ContractRepository;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed {@link ProposalFeatures} per job and completed-contract counts per
+ * freelancer, the inputs of {@link ProposalRanker}. A job's rows are read in one
+ * grouped query on first use; afterwards a proposal event re-reads only that
+ * proposal's row, and a contract reaching or leaving COMPLETED adjusts the
+ * freelancer's count in place. Jobs and freelancers that are not cached are
+ * left alone; the next read loads them with the change included.
+ */
+@Component
+@Slf4j
+public class ProposalFeatureStore {
+
+    private final ProposalRepository proposalRepository;
+    private final ContractRepository contractRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, Map<Long, ProposalFeatures>> featuresByJob;
+    private final Cache<Long, Integer> completedContracts;
+
+    public ProposalFeatureStore(ProposalRepository proposalRepository,
+                                ContractRepository contractRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${proposals.ranking.job-cache.max-size:5000}") long maxJobs,
+                                @Value("${proposals.ranking.freelancer-cache.max-size:50000}") long maxFreelancers,
+                                @Value("${proposals.ranking.idle-minutes:30}") long idleMinutes) {
+        this.proposalRepository = proposalRepository;
+        this.contractRepository = contractRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.featuresByJob = Caffeine.newBuilder()
+                .maximumSize(maxJobs)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        this.completedContracts = Caffeine.newBuilder()
+                .maximumSize(maxFreelancers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    /**
+     * Feature rows of every proposal of the job, in any status
+     */
+    public Collection<ProposalFeatures> featuresOf(Long jobId) {
+        return featuresByJob.get(jobId, this::load).values();
+    }
+
+    /**
+     * Completed contracts per freelancer; freelancers without any map to 0
+     */
+    public Map<Long, Integer> completedContractsOf(Collection<Long> freelancerIds) {
+        return completedContracts.getAll(freelancerIds, this::loadCompletedContracts);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalChanged(ProposalChangedEvent event) {
+        Long jobId = event.getJobId();
+        Long proposalId = event.getLatest().getId();
+        if (jobId == null || featuresByJob.getIfPresent(jobId) == null) {
+            return;
+        }
+        Optional<ProposalFeatures> row = event.getType() == ProposalChangedEvent.Type.DELETED
+                ? Optional.empty()
+                : readOnlyTransaction.execute(status ->
+                        proposalRepository.findFeatureRowById(proposalId).map(ProposalFeatures::from));
+
+        // Rows are replaced, never mutated, so a ranking in progress sees a consistent map
+        featuresByJob.asMap().computeIfPresent(jobId, (id, rows) -> {
+            Map<Long, ProposalFeatures> updated = new HashMap<>(rows);
+            if (row == null || row.isEmpty()) {
+                updated.remove(proposalId);
+            } else {
+                updated.put(proposalId, row.get());
+            }
+            return Map.copyOf(updated);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContractChanged(ContractChangedEvent event) {
+        boolean wasCompleted = event.getPreviousStatus() == Contract.ContractStatus.COMPLETED;
+        boolean isCompleted = event.getStatus() == Contract.ContractStatus.COMPLETED;
+        if (wasCompleted == isCompleted || event.getFreelancerId() == null) {
+            return;
+        }
+        int delta = isCompleted ? 1 : -1;
+        completedContracts.asMap().computeIfPresent(event.getFreelancerId(),
+                (id, count) -> Math.max(0, count + delta));
+    }
+
+    private Map<Long, ProposalFeatures> load(Long jobId) {
+        Map<Long, ProposalFeatures> rows = readOnlyTransaction.execute(status ->
+                proposalRepository.findFeatureRowsByJobId(jobId).stream()
+                        .map(ProposalFeatures::from)
+                        .collect(Collectors.toUnmodifiableMap(ProposalFeatures::proposalId, Function.identity())));
+        log.debug("Loaded ranking features for job {}", jobId);
+        return rows != null ? rows : Map.of();
+    }
+
+    private Map<Long, Integer> loadCompletedContracts(Collection<? extends Long> freelancerIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        freelancerIds.forEach(id -> counts.put(id, 0));
+        readOnlyTransaction.executeWithoutResult(status -> contractRepository
+                .countByFreelancerIdsAndStatus(counts.keySet(), Contract.ContractStatus.COMPLETED)
+                .forEach(row -> counts.put(row.getFreelancerId(), row.getContracts().intValue())));
+        return counts;
+    }
+}
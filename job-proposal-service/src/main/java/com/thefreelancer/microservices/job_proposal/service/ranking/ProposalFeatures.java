@@ -0,0 +1,42 @@
+package com.thefreelancer.microservices.job_proposal.service.ranking;
+
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
+
+import java.math.BigInteger;
+
+/**
+ * The per-proposal inputs of {@link ProposalRanker}: the bid, its delivery time and
+ * how much of the bid its milestones account for. Everything that depends on the
+ * job or on the freelancer's history is looked up when ranking.
+ */
+public record ProposalFeatures(Long proposalId,
+                               Long freelancerId,
+                               Proposal.ProposalStatus status,
+                               long totalCents,
+                               Integer deliveryDays,
+                               int milestoneCount,
+                               long milestoneCents) {
+    
+    public static ProposalFeatures from(ProposalRepository.ProposalFeatureRow row) {
+        return new ProposalFeatures(row.getId(), row.getFreelancerId(), row.getStatus(),
+                toCents(row.getTotalCents()), row.getDeliveryDays(),
+                row.getMilestoneCount() != null ? row.getMilestoneCount().intValue() : 0,
+                toCents(row.getMilestoneCents()));
+    }
+    
+    /**
+     * Only bids the client can still act on are ranked
+     */
+    public boolean isRankable() {
+        return status == Proposal.ProposalStatus.SUBMITTED || status == Proposal.ProposalStatus.ACCEPTED;
+    }
+    
+    // Amounts beyond a long are clamped; no real bid gets near that
+    static long toCents(BigInteger cents) {
+        if (cents == null) {
+            return 0L;
+        }
+        return cents.bitLength() > 63 ? (cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE) : cents.longValue();
+    }
+}
@@ -0,0 +1,132 @@
+package com.thefreelancer.microservices.job_proposal.service.ranking;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scores a job's proposals and keeps the best K. Each score is a weighted sum of
+ * four signals in [0, 1]:
+ * <ul>
+ *   <li>price fit: 1 inside the job's budget range, falling off with the ratio
+ *       to the nearest bound outside it (bids far below the minimum are as
+ *       suspect as bids far above the maximum)</li>
+ *   <li>delivery speed: the fastest bid on the job divided by this bid's days</li>
+ *   <li>milestone completeness: how closely the milestone amounts add up to the bid</li>
+ *   <li>track record: completed contracts, saturating as c / (c + 3)</li>
+ * </ul>
+ * The rows are scanned once into a min-heap of size K, so ranking costs
+ * O(n log K) however many bids the job has.
+ */
+public final class ProposalRanker {
+
+    static final double PRICE_WEIGHT = 0.35;
+    static final double DELIVERY_WEIGHT = 0.25;
+    static final double MILESTONE_WEIGHT = 0.15;
+    static final double TRACK_RECORD_WEIGHT = 0.25;
+
+    private static final double NO_BUDGET_PRICE_FIT = 0.5;
+    private static final double TRACK_RECORD_HALF_POINT = 3.0;
+
+    // Worst at the head, so the heap can drop it when a better proposal turns up; earlier bids win ties
+    private static final Comparator<RankedProposal> WORST_FIRST = Comparator
+            .comparingDouble(RankedProposal::score)
+            .thenComparing(RankedProposal::proposalId, Comparator.reverseOrder());
+
+    public record RankedProposal(Long proposalId,
+                                 double score,
+                                 double priceFit,
+                                 double deliverySpeed,
+                                 double milestoneCompleteness,
+                                 double trackRecord,
+                                 int completedContracts) {
+    }
+
+    private ProposalRanker() {
+    }
+
+    /**
+     * The {@code k} best rankable proposals, best first
+     *
+     * @param completedContracts completed contracts per freelancer id
+     */
+    public static List<RankedProposal> topK(BigInteger minBudgetCents, BigInteger maxBudgetCents,
+                                            Collection<ProposalFeatures> proposals,
+                                            ToIntFunction<Long> completedContracts, int k) {
+        int fastest = Integer.MAX_VALUE;
+        for (ProposalFeatures proposal : proposals) {
+            if (proposal.isRankable() && proposal.deliveryDays() != null && proposal.deliveryDays() > 0) {
+                fastest = Math.min(fastest, proposal.deliveryDays());
+            }
+        }
+
+        long low = minBudgetCents != null ? ProposalFeatures.toCents(minBudgetCents) : 0L;
+        long high = maxBudgetCents != null ? ProposalFeatures.toCents(maxBudgetCents) : Long.MAX_VALUE;
+        boolean hasBudget = minBudgetCents != null || maxBudgetCents != null;
+
+        PriorityQueue<RankedProposal> best = new PriorityQueue<>(k + 1, WORST_FIRST);
+        for (ProposalFeatures proposal : proposals) {
+            if (!proposal.isRankable()) {
+                continue;
+            }
+            int completed = completedContracts.applyAsInt(proposal.freelancerId());
+            RankedProposal ranked = score(proposal, hasBudget, low, high, fastest, completed);
+            if (best.size() < k) {
+                best.add(ranked);
+            } else if (WORST_FIRST.compare(ranked, best.peek()) > 0) {
+                best.poll();
+                best.add(ranked);
+            }
+        }
+
+        List<RankedProposal> sorted = new ArrayList<>(best);
+        sorted.sort(WORST_FIRST.reversed());
+        return sorted;
+    }
+
+    private static RankedProposal score(ProposalFeatures proposal, boolean hasBudget, long low, long high,
+                                        int fastest, int completed) {
+        double priceFit = hasBudget ? priceFit(proposal.totalCents(), low, high) : NO_BUDGET_PRICE_FIT;
+        double deliverySpeed = deliverySpeed(proposal.deliveryDays(), fastest);
+        double milestoneCompleteness = milestoneCompleteness(proposal);
+        double trackRecord = completed / (completed + TRACK_RECORD_HALF_POINT);
+        double score = PRICE_WEIGHT * priceFit
+                + DELIVERY_WEIGHT * deliverySpeed
+                + MILESTONE_WEIGHT * milestoneCompleteness
+                + TRACK_RECORD_WEIGHT * trackRecord;
+        return new RankedProposal(proposal.proposalId(), score, priceFit, deliverySpeed,
+                milestoneCompleteness, trackRecord, completed);
+    }
+
+    static double priceFit(long totalCents, long low, long high) {
+        if (totalCents <= 0) {
+            return 0.0;
+        }
+        if (totalCents < low) {
+            return (double) totalCents / low;
+        }
+        if (totalCents > high) {
+            return (double) high / totalCents;
+        }
+        return 1.0;
+    }
+
+    static double deliverySpeed(Integer deliveryDays, int fastest) {
+        if (deliveryDays == null || deliveryDays <= 0 || fastest == Integer.MAX_VALUE) {
+            return 0.0;
+        }
+        return (double) fastest / deliveryDays;
+    }
+
+    static double milestoneCompleteness(ProposalFeatures proposal) {
+        if (proposal.milestoneCount() == 0 || proposal.totalCents() <= 0) {
+            return 0.0;
+        }
+        double coverage = (double) proposal.milestoneCents() / proposal.totalCents();
+        return Math.max(0.0, 1.0 - Math.abs(1.0 - coverage));
+    }
+}
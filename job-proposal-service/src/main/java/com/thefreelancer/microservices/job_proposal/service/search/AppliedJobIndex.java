@@ -0,0 +1,86 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.repository.ProposalRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Ids of the jobs each freelancer has a proposal on, as bitmaps, so that
+ * "jobs I haven't applied to" is an in-memory anti-join over the search
+ * candidates instead of a NOT EXISTS against proposals on every query.
+ * <p>
+ * Bitmaps are loaded on first use and bounded by size (least recently used
+ * freelancers are evicted). Cached bitmaps are never modified: a created or
+ * deleted proposal swaps in an updated copy, so readers need no lock.
+ */
+@Component
+public class AppliedJobIndex {
+    
+    private final ProposalRepository proposalRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, RoaringBitmap> appliedJobs;
+    
+    public AppliedJobIndex(ProposalRepository proposalRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${jobs.applied.cache.max-size:10000}") long maxSize) {
+        this.proposalRepository = proposalRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.appliedJobs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+    
+    /**
+     * Jobs the freelancer has a proposal on. The returned bitmap must not be modified.
+     */
+    public RoaringBitmap appliedJobs(Long freelancerId) {
+        return appliedJobs.get(freelancerId, this::load);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalChanged(ProposalChangedEvent event) {
+        if (event.getType() == ProposalChangedEvent.Type.UPDATED
+                || appliedJobs.getIfPresent(event.getFreelancerId()) == null) {
+            return; // proposals never move to another job; uncached freelancers load fresh
+        }
+        // Nothing stops a second proposal on the same job, so a deletion re-checks
+        boolean applied = event.getType() == ProposalChangedEvent.Type.CREATED
+                || Boolean.TRUE.equals(readOnlyTransaction.execute(status ->
+                        proposalRepository.existsByJobIdAndFreelancerId(event.getJobId(), event.getFreelancerId())));
+        
+        int jobId = OpenJobBitmapIndex.toBitmapId(event.getJobId());
+        appliedJobs.asMap().computeIfPresent(event.getFreelancerId(), (id, jobs) -> {
+            if (jobs.contains(jobId) == applied) {
+                return jobs;
+            }
+            RoaringBitmap updated = jobs.clone();
+            if (applied) {
+                updated.add(jobId);
+            } else {
+                updated.remove(jobId);
+            }
+            return updated;
+        });
+    }
+    
+    private RoaringBitmap load(Long freelancerId) {
+        List<Long> jobIds = readOnlyTransaction.execute(status ->
+                proposalRepository.findJobIdsByFreelancerId(freelancerId));
+        RoaringBitmap jobs = new RoaringBitmap();
+        if (jobIds != null) {
+            jobIds.forEach(jobId -> jobs.add(OpenJobBitmapIndex.toBitmapId(jobId)));
+        }
+        jobs.runOptimize();
+        return jobs;
+    }
+}
@@ -0,0 +1,179 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * Dynamic interval tree of budget ranges in cents: a treap ordered by
+ * (low, id) where every node also keeps the highest upper bound in its subtree.
+ * An overlap query visits only subtrees that can contain a hit, so it costs
+ * O(log n) per reported interval.
+ * <p>
+ * Bounds are inclusive. Not thread-safe: callers guard it with their own lock.
+ */
+class BudgetIntervalTree {
+
+    private static final class Node {
+        final long id;
+        final long low;
+        final long high;
+        final int priority;
+        long maxHigh;
+        Node left;
+        Node right;
+
+        Node(long id, long low, long high) {
+            this.id = id;
+            this.low = low;
+            this.high = high;
+            this.maxHigh = high;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    void insert(long id, long low, long high) {
+        root = insert(root, new Node(id, low, high));
+        size++;
+    }
+
+    /**
+     * Remove the interval previously inserted with exactly these values
+     */
+    void remove(long id, long low, long high) {
+        int before = size;
+        root = remove(root, id, low);
+        if (size == before) {
+            throw new IllegalStateException("Interval " + id + " [" + low + ", " + high + "] is not in the tree");
+        }
+    }
+
+    /**
+     * Report the id of every interval that overlaps [low, high]
+     */
+    void overlapping(long low, long high, LongConsumer consumer) {
+        overlapping(root, low, high, consumer);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Budget in cents as a tree bound: null becomes {@code ifNull} (an open bound)
+     * and amounts beyond a long are clamped
+     */
+    static long toCents(BigInteger cents, long ifNull) {
+        if (cents == null) {
+            return ifNull;
+        }
+        if (cents.bitLength() > 63) {
+            return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    private static void overlapping(Node node, long low, long high, LongConsumer consumer) {
+        while (node != null && node.maxHigh >= low) {
+            overlapping(node.left, low, high, consumer);
+            if (node.low > high) {
+                return; // everything to the right starts even later
+            }
+            if (node.high >= low) {
+                consumer.accept(node.id);
+            }
+            node = node.right;
+        }
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.low, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long id, long low) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(low, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, low);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, low);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    // Joins two treaps where every key on the left is smaller than every key on the right
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int compare(long low, long id, Node node) {
+        int cmp = Long.compare(low, node.low);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long maxHigh = node.high;
+        if (node.left != null) {
+            maxHigh = Math.max(maxHigh, node.left.maxHigh);
+        }
+        if (node.right != null) {
+            maxHigh = Math.max(maxHigh, node.right.maxHigh);
+        }
+        node.maxHigh = maxHigh;
+    }
+}
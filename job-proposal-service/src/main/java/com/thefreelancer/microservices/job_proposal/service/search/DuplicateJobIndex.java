@@ -0,0 +1,137 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Banded LSH index over the {@link JobSimHash} signatures of OPEN jobs, per client.
+ * <p>
+ * The 64-bit signature is cut into {@value #BANDS} bands of 16 bits and each
+ * job is filed under (client, band, band value). Two signatures within
+ * {@value #MAX_DISTANCE} bits differ in at most three bands, so they share at
+ * least one bucket: looking up the candidate's four buckets finds every near
+ * duplicate without scanning the client's jobs.
+ */
+@Component
+public class DuplicateJobIndex {
+    
+    static final int BANDS = 4;
+    static final int MAX_DISTANCE = 3;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+    
+    private record Bucket(Long clientId, int band, int value) {
+    }
+    
+    private record Entry(Long clientId, long signature, LocalDateTime createdAt) {
+    }
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Bucket, Set<Long>> buckets = new HashMap<>();
+    
+    private final int windowDays;
+    private final boolean rejectDuplicates;
+    
+    public DuplicateJobIndex(@Value("${jobs.duplicates.window-days:30}") int windowDays,
+                             @Value("${jobs.duplicates.reject:false}") boolean rejectDuplicates) {
+        this.windowDays = windowDays;
+        this.rejectDuplicates = rejectDuplicates;
+    }
+    
+    /**
+     * Whether near duplicates are refused at creation instead of only flagged
+     */
+    public boolean rejectsDuplicates() {
+        return rejectDuplicates;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getJobId());
+            JobSnapshot job = event.getCurrent();
+            long signature = JobSimHash.of(job.getProjectName(), job.getDescription());
+            if (event.isOpen() && signature != JobSimHash.EMPTY) {
+                add(job.getId(), new Entry(job.getClientId(), signature, job.getCreatedAt()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * The closest OPEN job of the same client, posted within the window, whose
+     * signature is within {@value #MAX_DISTANCE} bits of the given one
+     */
+    public Optional<Long> findNearDuplicate(Long clientId, long signature) {
+        if (signature == JobSimHash.EMPTY) {
+            return Optional.empty();
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        lock.readLock().lock();
+        try {
+            Long best = null;
+            int bestDistance = MAX_DISTANCE + 1;
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> ids = buckets.get(new Bucket(clientId, band, bandValue(signature, band)));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Entry entry = entries.get(id);
+                    int distance = JobSimHash.distance(signature, entry.signature());
+                    boolean recent = entry.createdAt() == null || !entry.createdAt().isBefore(since);
+                    if (recent && distance < bestDistance) {
+                        best = id;
+                        bestDistance = distance;
+                    }
+                }
+            }
+            return Optional.ofNullable(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void add(Long jobId, Entry entry) {
+        entries.put(jobId, entry);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(new Bucket(entry.clientId(), band, bandValue(entry.signature(), band)),
+                    k -> new HashSet<>()).add(jobId);
+        }
+    }
+    
+    private void remove(Long jobId) {
+        Entry entry = entries.remove(jobId);
+        if (entry == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            Bucket bucket = new Bucket(entry.clientId(), band, bandValue(entry.signature(), band));
+            Set<Long> ids = buckets.get(bucket);
+            if (ids != null) {
+                ids.remove(jobId);
+                if (ids.isEmpty()) {
+                    buckets.remove(bucket);
+                }
+            }
+        }
+    }
+    
+    private static int bandValue(long signature, int band) {
+        return (int) ((signature >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+}
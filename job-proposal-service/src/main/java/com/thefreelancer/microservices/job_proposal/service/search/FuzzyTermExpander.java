@@ -0,0 +1,141 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Rewrites misspelled skill and category filters ("Reakt", "java script",
+ * "Web Developmnt") to the closest values used by OPEN jobs before a search runs,
+ * so the exact-match filters downstream still find something.
+ * <p>
+ * Terms that some open job already uses, and skills the {@link SkillTaxonomy}
+ * knows, are left alone. Known values live in
+ * trigram indexes kept current from {@link JobChangedEvent}; every lookup has a
+ * small time budget, after which the best candidates seen so far are used.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FuzzyTermExpander {
+
+    private static final double MIN_SIMILARITY = 0.3; // pg_trgm's default threshold
+    private static final int MAX_SKILL_EXPANSIONS = 3;
+    private static final double MIN_RELATIVE_SIMILARITY = 0.75; // alternatives must be nearly as close as the best
+    private static final long LOOKUP_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final SkillTaxonomy skillTaxonomy;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TrigramIndex skills = new TrigramIndex();
+    private final TrigramIndex categories = new TrigramIndex();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.wasOpen()) {
+                apply(event.getPrevious(), -1);
+            }
+            if (event.isOpen()) {
+                apply(event.getCurrent(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The category as open jobs spell it, or the closest such category when none
+     * uses this one. Returned unchanged if nothing is close enough.
+     */
+    public String expandCategory(String category) {
+        String key = SearchTerms.normalize(category);
+        if (key == null) {
+            return category;
+        }
+        lock.readLock().lock();
+        try {
+            if (categories.contains(key)) {
+                return categories.label(key);
+            }
+            List<TrigramIndex.Match> nearest = categories.nearest(key, 1, MIN_SIMILARITY,
+                    System.nanoTime() + LOOKUP_BUDGET_NANOS);
+            if (nearest.isEmpty()) {
+                return category;
+            }
+            log.debug("Expanded category '{}' to '{}'", category, nearest.get(0).label());
+            return nearest.get(0).label();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Skill filter with every unknown skill replaced by its closest known skills.
+     * When all skills must match, a misspelled skill becomes its single best
+     * correction; otherwise it becomes up to three comparably close alternatives. Skills with no
+     * close match are kept as they are.
+     */
+    public List<String> expandSkills(List<String> requested, boolean matchAll) {
+        if (requested == null || requested.isEmpty()) {
+            return requested;
+        }
+        lock.readLock().lock();
+        try {
+            Set<String> expanded = new LinkedHashSet<>();
+            for (String skill : requested) {
+                String key = SearchTerms.normalize(skill);
+                if (key == null || skills.contains(key) || skillTaxonomy.isKnown(key)) {
+                    expanded.add(skill);
+                    continue;
+                }
+                List<TrigramIndex.Match> nearest = skills.nearest(key, matchAll ? 1 : MAX_SKILL_EXPANSIONS,
+                        MIN_SIMILARITY, System.nanoTime() + LOOKUP_BUDGET_NANOS);
+                if (nearest.isEmpty()) {
+                    expanded.add(skill);
+                } else {
+                    log.debug("Expanded skill '{}' to {}", skill, nearest.stream().map(TrigramIndex.Match::key).toList());
+                    double best = nearest.get(0).similarity();
+                    nearest.stream()
+                            .filter(match -> match.similarity() >= best * MIN_RELATIVE_SIMILARITY)
+                            .forEach(match -> expanded.add(match.label()));
+                }
+            }
+            return new ArrayList<>(expanded);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(JobSnapshot job, int delta) {
+        // A job counts once per skill even if it lists "React" and "react"
+        Map<String, String> skillLabels = new LinkedHashMap<>();
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                skillLabels.putIfAbsent(key, skill.trim());
+            }
+        }
+        skillLabels.forEach((key, label) -> skills.add(key, label, delta));
+
+        String categoryKey = SearchTerms.normalize(job.getCategory());
+        if (categoryKey != null) {
+            categories.add(categoryKey, job.getCategory().trim(), delta);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.JobsLoadedEvent;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Replays every OPEN job as a {@link JobChangedEvent.Type#LOADED} event on startup
+ * so the in-memory indexes start out complete, then a {@link JobsLoadedEvent}.
+ * Jobs are read in id order, one short read-only transaction per batch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobIndexBootstrap {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOpenJobs() {
+        log.info("Loading open jobs into search indexes");
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            long cursor = afterId;
+            List<JobSnapshot> batch = transactionTemplate.execute(status ->
+                    jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                                    Job.JobStatus.OPEN, cursor, PageRequest.ofSize(BATCH_SIZE))
+                            .stream()
+                            .map(JobSnapshot::from)
+                            .toList());
+            
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            
+            // Published outside the transaction so listeners run immediately
+            batch.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.loaded(job)));
+            loaded += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        
+        eventPublisher.publishEvent(new JobsLoadedEvent(loaded));
+        log.info("Loaded {} open jobs into search indexes", loaded);
+    }
+}
@@ -0,0 +1,194 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.thefreelancer.microservices.job_proposal.dto.CacheStatsDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchPageDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.ProposalChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.ProposalSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Result cache for the public discovery reads: search pages keyed by the
+ * normalized filter tuple, and job details keyed by id.
+ * <p>
+ * Both caches are bounded in size and expire entries after a fixed TTL.
+ * Mutations evict precisely: a job change drops its detail entry and only
+ * those search pages whose filters the job matched before or after the
+ * change. The TTL bounds any staleness left by a read that raced a commit.
+ * <p>
+ * A proposal change only moves the job's proposal counters, which neither
+ * filter nor order a search, so it drops the job's detail entry and the search
+ * pages that list the job.
+ */
+@Component
+@Slf4j
+public class JobSearchCache {
+
+    private final Cache<SearchKey, JobSearchPageDto> searchPages;
+    private final Cache<Long, Optional<JobResponseDto>> jobsById;
+    private final SkillTaxonomy skillTaxonomy;
+
+    public JobSearchCache(SkillTaxonomy skillTaxonomy,
+                          @Value("${jobs.search.cache.max-size:10000}") long maxSize,
+                          @Value("${jobs.search.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.skillTaxonomy = skillTaxonomy;
+        this.searchPages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.jobsById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        log.info("Job search cache enabled (max size {}, ttl {}s)", maxSize, ttlSeconds);
+    }
+
+    public JobSearchPageDto getSearchPage(SearchKey key, Supplier<JobSearchPageDto> loader) {
+        return searchPages.get(key, k -> loader.get());
+    }
+
+    public Optional<JobResponseDto> getJob(Long jobId, Function<Long, Optional<JobResponseDto>> loader) {
+        return jobsById.get(jobId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.LOADED) {
+            return; // startup replay: nothing is cached yet and nothing changed
+        }
+        jobsById.invalidate(event.getJobId());
+
+        JobSnapshot previous = event.getPrevious();
+        JobSnapshot current = event.getCurrent();
+        if (!event.wasOpen() && !event.isOpen()) {
+            return; // searches only return OPEN jobs
+        }
+        searchPages.asMap().keySet().removeIf(key ->
+                key.couldContain(previous, skillTaxonomy) || key.couldContain(current, skillTaxonomy));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalChanged(ProposalChangedEvent event) {
+        ProposalSnapshot previous = event.getPrevious();
+        ProposalSnapshot current = event.getCurrent();
+        if (previous != null && current != null && previous.getStatus() == current.getStatus()) {
+            return; // counters are unchanged
+        }
+        Long jobId = event.getJobId();
+        jobsById.invalidate(jobId);
+        searchPages.asMap().values().removeIf(page -> lists(page, jobId));
+    }
+
+    public List<CacheStatsDto> stats() {
+        return List.of(toDto("jobSearch", searchPages), toDto("jobById", jobsById));
+    }
+
+    private static boolean lists(JobSearchPageDto page, Long jobId) {
+        return page.getItems() != null
+                && page.getItems().stream().anyMatch(item -> Objects.equals(item.getId(), jobId));
+    }
+
+    private static CacheStatsDto toDto(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    /**
+     * Normalized search parameters. Skills are matched case-insensitively and in any
+     * order, so they are normalized and sorted; category is matched exactly by the
+     * database path and is only trimmed.
+     */
+    public record SearchKey(String q, String category, BigInteger minBudget, BigInteger maxBudget,
+                            Boolean isUrgent, Job.BudgetType budgetType, List<String> skills,
+                            boolean matchAllSkills, JobSort sort, boolean includeFacets, String cursor, int limit) {
+
+        public static SearchKey of(JobSearchCriteria criteria, int limit) {
+            List<String> skills = criteria.getSkills() == null
+                    ? List.of()
+                    : criteria.getSkills().stream()
+                            .map(SearchTerms::normalize)
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .sorted()
+                            .toList();
+            String category = criteria.getCategory() == null || criteria.getCategory().isBlank()
+                    ? null
+                    : criteria.getCategory().trim();
+            String cursor = criteria.getCursor() == null || criteria.getCursor().isBlank()
+                    ? null
+                    : criteria.getCursor();
+            return new SearchKey(SearchTerms.normalize(criteria.getQ()), category,
+                    criteria.getMinBudget(), criteria.getMaxBudget(), criteria.getIsUrgent(),
+                    criteria.getBudgetType(), skills, Boolean.TRUE.equals(criteria.getMatchAllSkills()),
+                    criteria.getSort(), Boolean.TRUE.equals(criteria.getIncludeFacets()), cursor, limit);
+        }
+
+        /**
+         * Whether the job could appear in (or be counted by) a page cached under this key.
+         * Free text is not evaluated here, so a text key counts every job that passes its
+         * structured filters; facet counts span every open job.
+         */
+        boolean couldContain(JobSnapshot job, SkillTaxonomy skillTaxonomy) {
+            if (job == null || !job.isOpen()) {
+                return false;
+            }
+            if (includeFacets) {
+                return true;
+            }
+            if (category != null && !Objects.equals(SearchTerms.normalize(category),
+                    SearchTerms.normalize(job.getCategory()))) {
+                return false;
+            }
+            if (isUrgent != null && isUrgent != job.isUrgent()) {
+                return false;
+            }
+            if (budgetType != null && budgetType != job.getBudgetType()) {
+                return false;
+            }
+            if (minBudget != null && maxBudget != null
+                    && (job.getMinBudgetCents() == null || job.getMaxBudgetCents() == null
+                        || job.getMinBudgetCents().compareTo(maxBudget) > 0
+                        || job.getMaxBudgetCents().compareTo(minBudget) < 0)) {
+                return false;
+            }
+            return skills.isEmpty() || matchesSkills(job, skillTaxonomy);
+        }
+
+        // Same widening as the indexes: a key skill matches anything in its taxonomy closure
+        private boolean matchesSkills(JobSnapshot job, SkillTaxonomy skillTaxonomy) {
+            Set<String> jobSkills = job.getSkills().stream()
+                    .map(SearchTerms::normalize)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            if (matchAllSkills) {
+                return skills.stream().allMatch(skill ->
+                        skillTaxonomy.expand(skill).stream().anyMatch(jobSkills::contains));
+            }
+            return skillTaxonomy.expandAll(skills).stream().anyMatch(jobSkills::contains);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in an ordered list of job search results: the value of the
+ * sort key of the last returned job plus its id as a tie-breaker.
+ * Clients only ever see the encoded, opaque form.
+ */
+public record JobSearchCursor(Kind kind, String value, Long id) {
+    
+    /**
+     * Which ordering the cursor belongs to, so a cursor from one kind of search
+     * cannot be replayed against another
+     */
+    public enum Kind {
+        CREATED_AT,  // (createdAt DESC, id DESC)
+        NEWEST_ID,   // (id DESC), the in-memory index's stand-in for creation order
+        RANK,        // (relevance DESC, id DESC)
+        BUDGET_HIGH, // (coalesce(maxBudget, -1) DESC, id DESC)
+        BUDGET_LOW,  // (coalesce(maxBudget, Long.MAX_VALUE) ASC, id ASC)
+        URGENT       // (urgent DESC, id DESC)
+    }
+    
+    // Sort key of jobs without a max budget, so they come last in both budget orderings
+    private static final BigInteger NO_BUDGET_HIGH = BigInteger.ONE.negate();
+    private static final BigInteger NO_BUDGET_LOW = BigInteger.valueOf(Long.MAX_VALUE);
+    
+    private static final String SEPARATOR = "|";
+    
+    public static JobSearchCursor of(LocalDateTime createdAt, Long id) {
+        return new JobSearchCursor(Kind.CREATED_AT, createdAt.toString(), id);
+    }
+    
+    public static JobSearchCursor ofNewestId(Long id) {
+        return new JobSearchCursor(Kind.NEWEST_ID, "", id);
+    }
+    
+    public static JobSearchCursor ofRank(float rank, Long id) {
+        return new JobSearchCursor(Kind.RANK, Float.toString(rank), id);
+    }
+    
+    public static JobSearchCursor ofBudget(boolean highFirst, BigInteger maxBudget, Long id) {
+        return new JobSearchCursor(highFirst ? Kind.BUDGET_HIGH : Kind.BUDGET_LOW,
+                budgetKey(maxBudget, highFirst).toString(), id);
+    }
+    
+    public static JobSearchCursor ofUrgent(boolean urgent, Long id) {
+        return new JobSearchCursor(Kind.URGENT, Boolean.toString(urgent), id);
+    }
+    
+    /**
+     * The value a budget ordering sorts a job by: its max budget, or a sentinel
+     * that puts jobs without one after every other job
+     */
+    public static BigInteger budgetKey(BigInteger maxBudget, boolean highFirst) {
+        if (maxBudget != null) {
+            return maxBudget;
+        }
+        return highFirst ? NO_BUDGET_HIGH : NO_BUDGET_LOW;
+    }
+    
+    public LocalDateTime createdAt() {
+        requireKind(Kind.CREATED_AT);
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value: " + value, e);
+        }
+    }
+    
+    /**
+     * The id to continue before in an id-ordered newest-first list
+     */
+    public Long newestId() {
+        requireKind(Kind.NEWEST_ID);
+        return id;
+    }
+    
+    public float rank() {
+        requireKind(Kind.RANK);
+        return Float.parseFloat(value);
+    }
+    
+    public BigInteger budgetKey(boolean highFirst) {
+        requireKind(highFirst ? Kind.BUDGET_HIGH : Kind.BUDGET_LOW);
+        try {
+            return new BigInteger(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor value: " + value, e);
+        }
+    }
+    
+    public boolean urgent() {
+        requireKind(Kind.URGENT);
+        return Boolean.parseBoolean(value);
+    }
+    
+    public String encode() {
+        String raw = kind.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decode a cursor previously produced by {@link #encode()}
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static JobSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new JobSearchCursor(Kind.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+    
+    private void requireKind(Kind expected) {
+        if (kind != expected) {
+            throw new IllegalArgumentException("Cursor belongs to a different search ordering");
+        }
+    }
+}
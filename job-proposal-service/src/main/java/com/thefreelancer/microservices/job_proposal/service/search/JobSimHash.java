@@ -0,0 +1,71 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 64-bit SimHash of a job's title and description. Texts that share most of
+ * their words and word pairs get signatures a few bits apart, so near-duplicate
+ * detection becomes a Hamming distance check.
+ */
+public final class JobSimHash {
+    
+    // Signature of a text without any words; never treated as a duplicate
+    public static final long EMPTY = 0L;
+    
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private JobSimHash() {
+    }
+    
+    public static long of(String projectName, String description) {
+        List<String> words = JobTextEmbedder.tokenize((projectName != null ? projectName : "") + " "
+                + (description != null ? description : ""));
+        
+        Map<String, Integer> features = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            features.merge(words.get(i), 1, Integer::sum);
+            if (i + 1 < words.size()) {
+                features.merge(words.get(i) + " " + words.get(i + 1), 1, Integer::sum);
+            }
+        }
+        
+        int[] votes = new int[Long.SIZE];
+        features.forEach((feature, weight) -> {
+            long hash = hash64(feature);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+            }
+        });
+        
+        long signature = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                signature |= 1L << bit;
+            }
+        }
+        return signature;
+    }
+    
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+    
+    // FNV-1a over UTF-8 followed by the SplitMix64 finalizer for well-spread bits
+    private static long hash64(String feature) {
+        long hash = FNV_OFFSET;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
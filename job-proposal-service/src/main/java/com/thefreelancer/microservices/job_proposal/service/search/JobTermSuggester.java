@@ -0,0 +1,79 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.dto.TermSuggestionDto;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * As-you-type suggestions for skills and categories, weighted by how many
+ * OPEN jobs use them. Kept in memory and updated from {@link JobChangedEvent},
+ * so suggestions never touch the database.
+ */
+@Component
+public class JobTermSuggester {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final WeightedPrefixTrie skills = new WeightedPrefixTrie();
+    private final WeightedPrefixTrie categories = new WeightedPrefixTrie();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.wasOpen()) {
+                apply(event.getPrevious(), -1);
+            }
+            if (event.isOpen()) {
+                apply(event.getCurrent(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TermSuggestionDto> suggestSkills(String prefix, int limit) {
+        return suggest(skills, prefix, limit);
+    }
+
+    public List<TermSuggestionDto> suggestCategories(String prefix, int limit) {
+        return suggest(categories, prefix, limit);
+    }
+
+    private List<TermSuggestionDto> suggest(WeightedPrefixTrie trie, String prefix, int limit) {
+        String key = SearchTerms.normalize(prefix);
+        lock.readLock().lock();
+        try {
+            return trie.topK(key != null ? key : "", limit).stream()
+                    .map(completion -> new TermSuggestionDto(completion.label(), completion.weight()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(JobSnapshot job, int delta) {
+        // A job counts once per skill even if it lists "React" and "react"
+        Map<String, String> skillLabels = new LinkedHashMap<>();
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                skillLabels.putIfAbsent(key, skill.trim());
+            }
+        }
+        skillLabels.forEach((key, label) -> skills.add(key, label, delta));
+
+        String categoryKey = SearchTerms.normalize(job.getCategory());
+        if (categoryKey != null) {
+            categories.add(categoryKey, job.getCategory().trim(), delta);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Deterministic, fully local text embedder for jobs and search queries.
+ * <p>
+ * A text becomes a sparse bag of features (words, word bigrams, character
+ * trigrams and concepts from {@code search/semantic-concepts.txt}). Each
+ * feature is weighted by sublinear TF times IDF and hashed, with a sign bit,
+ * into a fixed number of dimensions. The result is L2-normalized for cosine
+ * similarity. The concept features carry the "semantic" part: terms of the
+ * same concept share a dimension even when they share no characters.
+ * <p>
+ * Document frequencies follow the indexed jobs incrementally, under a
+ * read/write lock so an embedding never sees half of a job's change. Vectors
+ * that are already stored keep the IDF they were built with; that drift is
+ * small next to the concept features, and a job is re-embedded whenever its
+ * text changes.
+ */
+@Component
+@Slf4j
+public class JobTextEmbedder {
+
+    public static final int DIMENSIONS = 256;
+
+    private static final String CONCEPTS_RESOURCE = "search/semantic-concepts.txt";
+
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float BIGRAM_WEIGHT = 0.5f;
+    private static final float TRIGRAM_WEIGHT = 0.15f;
+    private static final float CONCEPT_WEIGHT = 2.0f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "i", "in", "is", "it",
+            "looking", "me", "my", "need", "needed", "of", "on", "or", "our", "the", "to", "we",
+            "with", "who", "will", "you", "your");
+
+    // term (word or "word word") -> concepts it belongs to
+    private final Map<String, List<String>> conceptsByTerm;
+
+    // Guards documentFrequencies and documentCount
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private long documentCount;
+
+    public JobTextEmbedder() {
+        this.conceptsByTerm = loadConcepts();
+        log.info("Loaded {} concept terms for job embeddings", conceptsByTerm.size());
+    }
+
+    /**
+     * Text that represents a job for embedding: title, skills, category and description
+     */
+    public static String textOf(JobSnapshot job) {
+        StringBuilder text = new StringBuilder();
+        if (job.getProjectName() != null) {
+            // Title twice: it is the densest description of the job
+            text.append(job.getProjectName()).append(' ').append(job.getProjectName()).append(' ');
+        }
+        job.getSkills().forEach(skill -> text.append(skill).append(' '));
+        if (job.getCategory() != null) {
+            text.append(job.getCategory()).append(' ');
+        }
+        if (job.getDescription() != null) {
+            text.append(job.getDescription());
+        }
+        return text.toString();
+    }
+
+    public float[] embed(String text) {
+        Map<String, Integer> termCounts = features(text);
+
+        float[] vector = new float[DIMENSIONS];
+        lock.readLock().lock();
+        try {
+            long documents = Math.max(1, documentCount);
+            for (Map.Entry<String, Integer> entry : termCounts.entrySet()) {
+                String feature = entry.getKey();
+                float tf = 1.0f + (float) Math.log(entry.getValue());
+                int df = documentFrequencies.getOrDefault(feature, 0);
+                float idf = (float) Math.log((documents + 1.0) / (df + 1.0)) + 1.0f;
+
+                int hash = mix(feature.hashCode());
+                int dimension = Math.floorMod(hash, DIMENSIONS);
+                float sign = (hash & 0x80000000) == 0 ? 1.0f : -1.0f;
+                vector[dimension] += sign * featureWeight(feature) * tf * idf;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return normalize(vector);
+    }
+    
+    /**
+     * Identifies how this embedder maps text to vectors: dimensions, feature weights
+     * and concepts. Vectors stored under another fingerprint are not comparable.
+     */
+    public String fingerprint() {
+        String layout = DIMENSIONS + "|" + WORD_WEIGHT + "|" + BIGRAM_WEIGHT + "|" + TRIGRAM_WEIGHT + "|"
+                + CONCEPT_WEIGHT + "|" + STOP_WORDS.stream().sorted().toList() + "|" + new TreeMap<>(conceptsByTerm);
+        return Integer.toHexString(layout.hashCode());
+    }
+
+    public static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move IDF from one version of an indexed document to the next in one step
+     *
+     * @param removed text no longer indexed, or null
+     * @param added   text newly indexed, or null
+     */
+    public void replaceDocument(String removed, String added) {
+        Set<String> removedFeatures = removed != null ? features(removed).keySet() : Set.of();
+        Set<String> addedFeatures = added != null ? features(added).keySet() : Set.of();
+
+        lock.writeLock().lock();
+        try {
+            if (removed != null) {
+                documentCount--;
+                removedFeatures.forEach(feature ->
+                        documentFrequencies.computeIfPresent(feature, (f, df) -> df > 1 ? df - 1 : null));
+            }
+            if (added != null) {
+                documentCount++;
+                addedFeatures.forEach(feature -> documentFrequencies.merge(feature, 1, Integer::sum));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Feature keys are prefixed by kind so that e.g. a word and a concept never collide
+    private Map<String, Integer> features(String text) {
+        List<String> words = tokenize(text);
+        Map<String, Integer> counts = new HashMap<>();
+        Set<String> concepts = new HashSet<>();
+
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            counts.merge("w:" + word, 1, Integer::sum);
+            addConcepts(word, concepts);
+
+            String padded = "#" + word + "#";
+            for (int j = 0; j + 3 <= padded.length(); j++) {
+                counts.merge("t:" + padded.substring(j, j + 3), 1, Integer::sum);
+            }
+
+            if (i + 1 < words.size()) {
+                String bigram = word + " " + words.get(i + 1);
+                counts.merge("b:" + bigram, 1, Integer::sum);
+                addConcepts(bigram, concepts);
+            }
+        }
+        concepts.forEach(concept -> counts.merge("c:" + concept, 1, Integer::sum));
+        return counts;
+    }
+
+    private void addConcepts(String term, Set<String> concepts) {
+        List<String> termConcepts = conceptsByTerm.get(term);
+        if (termConcepts != null) {
+            concepts.addAll(termConcepts);
+        }
+    }
+
+    private static float featureWeight(String feature) {
+        return switch (feature.charAt(0)) {
+            case 'w' -> WORD_WEIGHT;
+            case 'b' -> BIGRAM_WEIGHT;
+            case 't' -> TRIGRAM_WEIGHT;
+            default -> CONCEPT_WEIGHT;
+        };
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        // Keep + and # so that c++ and c# survive
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                words.add(token);
+            }
+        }
+        return words;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return vector;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    // Murmur3 finalizer: spreads String.hashCode (stable across JVMs) over all bits
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static Map<String, List<String>> loadConcepts() {
+        Map<String, List<String>> concepts = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(CONCEPTS_RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int equals = line.indexOf('=');
+                if (equals < 0) {
+                    continue;
+                }
+                String concept = line.substring(0, equals).trim();
+                for (String term : line.substring(equals + 1).split(",")) {
+                    String normalized = String.join(" ", tokenize(term));
+                    if (!normalized.isEmpty()) {
+                        concepts.computeIfAbsent(normalized, t -> new ArrayList<>()).add(concept);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + CONCEPTS_RESOURCE, e);
+        }
+        return concepts;
+    }
+}
@@ -0,0 +1,357 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded Lucene index of OPEN jobs, used as the job search backend when
+ * {@code jobs.search.backend=lucene}. Text is scored with BM25 (projectName
+ * boosted over description); all other filters are non-scoring clauses.
+ * Changes are applied incrementally and become searchable through
+ * near-real-time reader refresh.
+ * <p>
+ * The index lives on local disk so it is memory-mapped rather than held on the
+ * heap. It is recreated on startup and refilled by {@link JobIndexBootstrap},
+ * so it never serves jobs that closed while the service was down.
+ */
+@Component
+@ConditionalOnProperty(name = "jobs.search.backend", havingValue = "lucene")
+@Slf4j
+public class LuceneJobIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String PROJECT_NAME = "projectName";
+    private static final String DESCRIPTION = "description";
+    private static final String SKILL = "skill";
+    private static final String CATEGORY = "category";
+    private static final String BUDGET_TYPE = "budgetType";
+    private static final String URGENT = "urgent";
+    private static final String STATUS = "status";
+    private static final String MIN_BUDGET = "minBudget";
+    private static final String MAX_BUDGET = "maxBudget";
+    private static final String CREATED_AT = "createdAt";
+    private static final String MAX_BUDGET_SORT = "maxBudgetSort";
+    private static final String URGENT_SORT = "urgentSort";
+
+    private static final Map<String, Float> TEXT_FIELD_WEIGHTS = Map.of(PROJECT_NAME, 2.0f, DESCRIPTION, 1.0f);
+
+    // How stale a searcher may be after a change (seconds)
+    private static final double MAX_STALE_SEC = 1.0;
+    private static final double MIN_STALE_SEC = 0.025;
+
+    private final SkillTaxonomy skillTaxonomy;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    /**
+     * A matching job id and the cursor pointing just after it
+     */
+    public record Hit(Long jobId, JobSearchCursor cursor) {
+    }
+
+    public LuceneJobIndex(@Value("${jobs.search.lucene.path}") String indexPath,
+                          SkillTaxonomy skillTaxonomy) throws IOException {
+        this.skillTaxonomy = skillTaxonomy;
+        Path path = Path.of(indexPath);
+        Files.createDirectories(path);
+
+        this.directory = FSDirectory.open(path);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SEC, MIN_STALE_SEC);
+        reopenThread.setName("lucene-job-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        log.info("Lucene job index opened at {}", path.toAbsolutePath());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Term idTerm = new Term(ID, String.valueOf(event.getJobId()));
+        try {
+            if (event.isOpen()) {
+                writer.updateDocument(idTerm, toDocument(event.getCurrent()));
+            } else if (event.wasOpen()) {
+                writer.deleteDocuments(idTerm);
+            }
+        } catch (IOException e) {
+            log.error("Failed to update Lucene index for job {}: {}", event.getJobId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Top {@code limit} matching jobs after the cursor (if any): in the criteria's
+     * explicit sort when given, else by relevance when they carry a text query,
+     * otherwise newest first.
+     */
+    public List<Hit> search(JobSearchCriteria criteria, JobSearchCursor after, int limit) {
+        JobSearchCursor.Kind kind = orderingOf(criteria);
+        Sort sort = switch (kind) {
+            case RANK -> new Sort(SortField.FIELD_SCORE, idSort(true));
+            case CREATED_AT -> new Sort(new SortField(CREATED_AT, SortField.Type.LONG, true), idSort(true));
+            case BUDGET_HIGH -> new Sort(budgetSort(true), idSort(true));
+            case BUDGET_LOW -> new Sort(budgetSort(false), idSort(false));
+            case URGENT -> new Sort(new SortField(URGENT_SORT, SortField.Type.LONG, true), idSort(true));
+            case NEWEST_ID -> throw idOnlyCursor();
+        };
+
+        Object[] afterFields = null;
+        if (after != null) {
+            Object sortValue = switch (kind) {
+                case RANK -> after.rank();
+                case CREATED_AT -> toMicros(after.createdAt());
+                case BUDGET_HIGH -> toLong(after.budgetKey(true));
+                case BUDGET_LOW -> toLong(after.budgetKey(false));
+                case URGENT -> after.urgent() ? 1L : 0L;
+                case NEWEST_ID -> throw idOnlyCursor();
+            };
+            afterFields = new Object[] { sortValue, after.id() };
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            // The id sort field already makes positions unique; the highest doc id only keeps
+            // the cursor's own job from matching again on a tie
+            ScoreDoc afterDoc = afterFields != null
+                    ? new FieldDoc(searcher.getIndexReader().maxDoc() - 1, Float.NaN, afterFields)
+                    : null;
+            TopDocs topDocs = searcher.searchAfter(afterDoc, buildQuery(criteria), limit, sort);
+
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Object[] fields = ((FieldDoc) scoreDoc).fields;
+                Long jobId = (Long) fields[1];
+                JobSearchCursor cursor = switch (kind) {
+                    case RANK -> JobSearchCursor.ofRank((Float) fields[0], jobId);
+                    case CREATED_AT -> JobSearchCursor.of(fromMicros((Long) fields[0]), jobId);
+                    // Jobs without a budget carry the missing value, which is already their sort key
+                    case BUDGET_HIGH -> JobSearchCursor.ofBudget(true, BigInteger.valueOf((Long) fields[0]), jobId);
+                    case BUDGET_LOW -> JobSearchCursor.ofBudget(false, BigInteger.valueOf((Long) fields[0]), jobId);
+                    case URGENT -> JobSearchCursor.ofUrgent((Long) fields[0] == 1L, jobId);
+                    case NEWEST_ID -> throw idOnlyCursor();
+                };
+                hits.add(new Hit(jobId, cursor));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene job search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release Lucene searcher: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Make every change applied so far searchable, without waiting for the reopen thread
+     */
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static JobSearchCursor.Kind orderingOf(JobSearchCriteria criteria) {
+        if (criteria.getSort() == null) {
+            boolean ranked = criteria.getQ() != null && !criteria.getQ().isBlank();
+            return ranked ? JobSearchCursor.Kind.RANK : JobSearchCursor.Kind.CREATED_AT;
+        }
+        return switch (criteria.getSort()) {
+            case NEWEST -> JobSearchCursor.Kind.CREATED_AT;
+            case BUDGET_HIGH -> JobSearchCursor.Kind.BUDGET_HIGH;
+            case BUDGET_LOW -> JobSearchCursor.Kind.BUDGET_LOW;
+            case URGENT -> JobSearchCursor.Kind.URGENT;
+        };
+    }
+
+    // Newest first here sorts by createdAt; the id-only cursor of the bitmap index does not apply
+    private static IllegalArgumentException idOnlyCursor() {
+        return new IllegalArgumentException("Cursor belongs to a different search ordering");
+    }
+
+    private static SortField idSort(boolean reverse) {
+        return new SortField(ID_SORT, SortField.Type.LONG, reverse);
+    }
+
+    // Same keys as JobSearchCursor.budgetKey: jobs without a budget sort last either way
+    private static SortField budgetSort(boolean highFirst) {
+        SortField field = new SortField(MAX_BUDGET_SORT, SortField.Type.LONG, highFirst);
+        field.setMissingValue(JobSearchCursor.budgetKey(null, highFirst).longValueExact());
+        return field;
+    }
+
+    private Query buildQuery(JobSearchCriteria criteria) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        if (criteria.getQ() != null && !criteria.getQ().isBlank()) {
+            SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT_FIELD_WEIGHTS);
+            parser.setDefaultOperator(BooleanClause.Occur.MUST);
+            Query textQuery = parser.parse(criteria.getQ());
+            // Null when the query analyzes to nothing (e.g. only stop words)
+            builder.add(textQuery != null ? textQuery : new MatchNoDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+
+        if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
+            boolean matchAll = Boolean.TRUE.equals(criteria.getMatchAllSkills());
+            BooleanQuery.Builder skills = new BooleanQuery.Builder();
+            boolean anySkill = false;
+            for (String skill : criteria.getSkills()) {
+                // A skill matches its synonyms and narrower skills from the taxonomy
+                List<BytesRef> keys = skillTaxonomy.expand(skill).stream().map(BytesRef::new).toList();
+                if (!keys.isEmpty()) {
+                    skills.add(new TermInSetQuery(SKILL, keys),
+                            matchAll ? BooleanClause.Occur.FILTER : BooleanClause.Occur.SHOULD);
+                    anySkill = true;
+                }
+            }
+            if (anySkill) {
+                builder.add(skills.build(), BooleanClause.Occur.FILTER);
+            }
+        }
+
+        String category = SearchTerms.normalize(criteria.getCategory());
+        if (category != null) {
+            builder.add(new TermQuery(new Term(CATEGORY, category)), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getBudgetType() != null) {
+            builder.add(new TermQuery(new Term(BUDGET_TYPE, criteria.getBudgetType().name())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getIsUrgent() != null) {
+            builder.add(new TermQuery(new Term(URGENT, criteria.getIsUrgent().toString())), BooleanClause.Occur.FILTER);
+        }
+
+        // Same overlap rule as JobRepository.findOpenJobsByFilters
+        if (criteria.getMinBudget() != null && criteria.getMaxBudget() != null) {
+            builder.add(LongPoint.newRangeQuery(MIN_BUDGET, Long.MIN_VALUE, toLong(criteria.getMaxBudget())), BooleanClause.Occur.FILTER);
+            builder.add(LongPoint.newRangeQuery(MAX_BUDGET, toLong(criteria.getMinBudget()), Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+
+        return builder.build();
+    }
+
+    private Document toDocument(JobSnapshot job) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(job.getId()), Field.Store.NO));
+        doc.add(new NumericDocValuesField(ID_SORT, job.getId()));
+
+        if (job.getProjectName() != null) {
+            doc.add(new TextField(PROJECT_NAME, job.getProjectName(), Field.Store.NO));
+        }
+        if (job.getDescription() != null) {
+            doc.add(new TextField(DESCRIPTION, job.getDescription(), Field.Store.NO));
+        }
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                doc.add(new StringField(SKILL, key, Field.Store.NO));
+            }
+        }
+        String category = SearchTerms.normalize(job.getCategory());
+        if (category != null) {
+            doc.add(new StringField(CATEGORY, category, Field.Store.NO));
+        }
+        if (job.getBudgetType() != null) {
+            doc.add(new StringField(BUDGET_TYPE, job.getBudgetType().name(), Field.Store.NO));
+        }
+        doc.add(new StringField(URGENT, Boolean.toString(job.isUrgent()), Field.Store.NO));
+        doc.add(new StringField(STATUS, job.getStatus().name(), Field.Store.NO));
+
+        if (job.getMinBudgetCents() != null) {
+            doc.add(new LongPoint(MIN_BUDGET, toLong(job.getMinBudgetCents())));
+        }
+        if (job.getMaxBudgetCents() != null) {
+            doc.add(new LongPoint(MAX_BUDGET, toLong(job.getMaxBudgetCents())));
+            doc.add(new NumericDocValuesField(MAX_BUDGET_SORT, toLong(job.getMaxBudgetCents())));
+        }
+        doc.add(new NumericDocValuesField(URGENT_SORT, job.isUrgent() ? 1L : 0L));
+
+        LocalDateTime createdAt = job.getCreatedAt() != null ? job.getCreatedAt() : LocalDateTime.now();
+        doc.add(new NumericDocValuesField(CREATED_AT, toMicros(createdAt)));
+        return doc;
+    }
+
+    private static long toLong(BigInteger value) {
+        if (value.bitLength() > 63) {
+            return value.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return value.longValue();
+    }
+
+    // createdAt is kept at microsecond precision so cursors round-trip exactly
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,496 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchFacetsDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over OPEN jobs: every skill, category, budget type and the
+ * urgent flag maps to a compressed bitmap of job ids. Filters are answered by
+ * intersecting/unioning bitmaps without touching the database, and facet
+ * counts come from intersection cardinalities over the same bitmaps.
+ * Skill filters are widened through the {@link SkillTaxonomy} closure. Budget
+ * range filters are answered by an interval tree over the OPEN jobs' budgets.
+ * <p>
+ * Filtered results can also be listed in the explicit {@link JobSort} orderings:
+ * by max budget from an ordered set of (budget, id), urgent-first from the urgent
+ * bitmap. Either way only the first page-worth of entries after the cursor is visited.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenJobBitmapIndex {
+    
+    private static final long MAX_BITMAP_ID = 0xFFFFFFFFL;
+    
+    private final SkillTaxonomy skillTaxonomy;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final RoaringBitmap openJobs = new RoaringBitmap();
+    private final RoaringBitmap urgentJobs = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> jobsBySkill = new HashMap<>();
+    private final Map<String, RoaringBitmap> jobsByCategory = new HashMap<>();
+    private final Map<Job.BudgetType, RoaringBitmap> jobsByBudgetType = new EnumMap<>(Job.BudgetType.class);
+    
+    // Budget ranges of OPEN jobs that have both bounds, for overlap filters
+    private final BudgetIntervalTree jobsByBudget = new BudgetIntervalTree();
+    private final Map<Long, long[]> budgetsById = new HashMap<>();
+    
+    // Every OPEN job by (max budget or NO_BUDGET, id), for the budget orderings
+    private final NavigableSet<BudgetEntry> jobsByMaxBudget = new TreeSet<>();
+    private final Map<Long, Long> maxBudgetById = new HashMap<>();
+    
+    // normalized key -> label as written by the client, for facet output
+    private final Map<String, String> skillLabels = new HashMap<>();
+    private final Map<String, String> categoryLabels = new HashMap<>();
+    
+    private static final long NO_BUDGET = -1;
+    
+    // Below this share of OPEN jobs, sorting the candidates beats walking the budget order
+    private static final int SPARSE_CANDIDATES_RATIO = 16;
+    
+    private enum Dimension {
+        SKILLS, CATEGORY, BUDGET_TYPE, URGENT
+    }
+    
+    private record BudgetEntry(long maxBudget, long id) implements Comparable<BudgetEntry> {
+        @Override
+        public int compareTo(BudgetEntry other) {
+            int cmp = Long.compare(maxBudget, other.maxBudget);
+            return cmp != 0 ? cmp : Long.compare(id, other.id);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getPrevious() != null) {
+                remove(event.getPrevious());
+            }
+            if (event.isOpen()) {
+                add(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Ids of OPEN jobs matching every given filter. Null filters are ignored;
+     * an empty skill list means "any skills". The budget range only applies when
+     * both bounds are given, and then matches jobs whose budget range overlaps it.
+     *
+     * @param matchAllSkills true for AND semantics across skills, false for OR
+     * @return a new bitmap owned by the caller
+     */
+    public RoaringBitmap match(Collection<String> skills, boolean matchAllSkills,
+                               String category, Job.BudgetType budgetType, Boolean isUrgent,
+                               BigInteger minBudget, BigInteger maxBudget) {
+        lock.readLock().lock();
+        try {
+            return filter(skills, matchAllSkills, category, budgetType, isUrgent, minBudget, maxBudget, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Facet counts for the given filters. Each dimension is counted with every
+     * filter applied except its own, so the counts show what selecting another
+     * value in that dimension would return. Counting is done with bitmap
+     * intersection cardinalities; no result set is materialized per value.
+     *
+     * @param within jobs every count is limited to, such as the matches of a text query;
+     *               null for no limit
+     */
+    public JobSearchFacetsDto facets(Collection<String> skills, boolean matchAllSkills,
+                                     String category, Job.BudgetType budgetType, Boolean isUrgent,
+                                     BigInteger minBudget, BigInteger maxBudget, RoaringBitmap within,
+                                     int topSkills) {
+        lock.readLock().lock();
+        try {
+            JobSearchFacetsDto facets = new JobSearchFacetsDto();
+            
+            RoaringBitmap forCategories = filter(skills, matchAllSkills, category, budgetType, isUrgent,
+                    minBudget, maxBudget, Dimension.CATEGORY);
+            limitTo(forCategories, within);
+            facets.setCategories(countValues(forCategories, jobsByCategory, categoryLabels, Integer.MAX_VALUE));
+            
+            RoaringBitmap forBudgetTypes = filter(skills, matchAllSkills, category, budgetType, isUrgent,
+                    minBudget, maxBudget, Dimension.BUDGET_TYPE);
+            limitTo(forBudgetTypes, within);
+            Map<String, Integer> budgetTypes = new LinkedHashMap<>();
+            jobsByBudgetType.forEach((type, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(forBudgetTypes, bitmap);
+                if (count > 0) {
+                    budgetTypes.put(type.name(), count);
+                }
+            });
+            facets.setBudgetTypes(budgetTypes);
+            
+            RoaringBitmap forUrgency = filter(skills, matchAllSkills, category, budgetType, isUrgent,
+                    minBudget, maxBudget, Dimension.URGENT);
+            limitTo(forUrgency, within);
+            int urgent = RoaringBitmap.andCardinality(forUrgency, urgentJobs);
+            Map<String, Integer> urgency = new LinkedHashMap<>();
+            urgency.put("true", urgent);
+            urgency.put("false", forUrgency.getCardinality() - urgent);
+            facets.setUrgency(urgency);
+            
+            RoaringBitmap forSkills = filter(skills, matchAllSkills, category, budgetType, isUrgent,
+                    minBudget, maxBudget, Dimension.SKILLS);
+            limitTo(forSkills, within);
+            facets.setSkills(countValues(forSkills, jobsBySkill, skillLabels, topSkills));
+            
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static void limitTo(RoaringBitmap bitmap, RoaringBitmap within) {
+        if (within != null) {
+            bitmap.and(within);
+        }
+    }
+    
+    // Caller must hold the read lock
+    private RoaringBitmap filter(Collection<String> skills, boolean matchAllSkills, String category,
+                                 Job.BudgetType budgetType, Boolean isUrgent,
+                                 BigInteger minBudget, BigInteger maxBudget, Dimension exclude) {
+        RoaringBitmap result = openJobs.clone();
+        
+        if (minBudget != null && maxBudget != null) {
+            // Same overlap rule as JobRepository.findOpenJobsByFilters
+            RoaringBitmap inBudget = new RoaringBitmap();
+            jobsByBudget.overlapping(BudgetIntervalTree.toCents(minBudget, Long.MIN_VALUE),
+                    BudgetIntervalTree.toCents(maxBudget, Long.MAX_VALUE), id -> inBudget.add(toBitmapId(id)));
+            result.and(inBudget);
+        }
+        
+        if (exclude != Dimension.SKILLS) {
+            List<RoaringBitmap> skillBitmaps = new ArrayList<>();
+            if (skills != null) {
+                for (String skill : skills) {
+                    // A skill matches its synonyms and narrower skills from the taxonomy
+                    Set<String> keys = skillTaxonomy.expand(skill);
+                    if (keys.isEmpty()) {
+                        continue;
+                    }
+                    List<RoaringBitmap> spellings = new ArrayList<>();
+                    for (String key : keys) {
+                        RoaringBitmap posting = jobsBySkill.get(key);
+                        if (posting != null) {
+                            spellings.add(posting);
+                        }
+                    }
+                    skillBitmaps.add(spellings.isEmpty()
+                            ? new RoaringBitmap()
+                            : FastAggregation.or(spellings.toArray(new RoaringBitmap[0])));
+                }
+            }
+            if (!skillBitmaps.isEmpty()) {
+                RoaringBitmap[] bitmaps = skillBitmaps.toArray(new RoaringBitmap[0]);
+                RoaringBitmap skillMatch = matchAllSkills
+                        ? FastAggregation.and(bitmaps)
+                        : FastAggregation.or(bitmaps);
+                result.and(skillMatch);
+            }
+        }
+        
+        String categoryKey = SearchTerms.normalize(category);
+        if (categoryKey != null && exclude != Dimension.CATEGORY) {
+            result.and(jobsByCategory.getOrDefault(categoryKey, new RoaringBitmap()));
+        }
+        if (budgetType != null && exclude != Dimension.BUDGET_TYPE) {
+            result.and(jobsByBudgetType.getOrDefault(budgetType, new RoaringBitmap()));
+        }
+        if (isUrgent != null && exclude != Dimension.URGENT) {
+            if (isUrgent) {
+                result.and(urgentJobs);
+            } else {
+                result.andNot(urgentJobs);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Non-zero counts per value, highest first, limited to {@code top} values.
+     * Keys are the display labels as last written by a client.
+     */
+    private static Map<String, Integer> countValues(RoaringBitmap filter, Map<String, RoaringBitmap> postings,
+                                                    Map<String, String> labels, int top) {
+        // Min-heap of the best values so far
+        PriorityQueue<Map.Entry<String, Integer>> best = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, RoaringBitmap> posting : postings.entrySet()) {
+            int count = RoaringBitmap.andCardinality(filter, posting.getValue());
+            if (count == 0) {
+                continue;
+            }
+            if (best.size() < top) {
+                best.add(Map.entry(posting.getKey(), count));
+            } else if (count > best.peek().getValue()) {
+                best.poll();
+                best.add(Map.entry(posting.getKey(), count));
+            }
+        }
+        
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(best);
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        sorted.forEach(entry -> counts.put(labels.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue()));
+        return counts;
+    }
+    
+    /**
+     * Up to {@code limit} positions of candidate jobs after the cursor (null for the
+     * first page) in a budget or urgent-first ordering. Each returned cursor carries
+     * the job id and points just after that job, using the same sort keys as
+     * {@link JobSearchCursor}. Newest first does not need the index: see {@link #newestIds}.
+     */
+    public List<JobSearchCursor> sortedPositions(RoaringBitmap candidates, JobSort sort,
+                                                 JobSearchCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            return switch (sort) {
+                case BUDGET_HIGH -> budgetPositions(candidates, true, after, limit);
+                case BUDGET_LOW -> budgetPositions(candidates, false, after, limit);
+                case URGENT -> urgentPositions(candidates, after, limit);
+                case NEWEST -> throw new IllegalArgumentException("Newest first is served by newestIds");
+            };
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Caller must hold the read lock
+    private List<JobSearchCursor> budgetPositions(RoaringBitmap candidates, boolean highFirst,
+                                                  JobSearchCursor after, int limit) {
+        BudgetEntry start = null;
+        if (after != null) {
+            long key = BudgetIntervalTree.toCents(after.budgetKey(highFirst), Long.MAX_VALUE);
+            start = new BudgetEntry(!highFirst && key == Long.MAX_VALUE ? NO_BUDGET : key, after.id());
+        }
+        
+        List<JobSearchCursor> positions = new ArrayList<>(limit);
+        if ((long) candidates.getCardinality() * SPARSE_CANDIDATES_RATIO < openJobs.getCardinality()) {
+            // Few candidates: order just them instead of skipping through every open job
+            List<BudgetEntry> entries = new ArrayList<>(candidates.getCardinality());
+            IntIterator ids = candidates.getIntIterator();
+            while (ids.hasNext()) {
+                long id = Integer.toUnsignedLong(ids.next());
+                Long maxBudget = maxBudgetById.get(id);
+                if (maxBudget != null) {
+                    BudgetEntry entry = new BudgetEntry(maxBudget, id);
+                    if (start == null || compareInOrder(entry, start, highFirst) > 0) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            entries.sort((a, b) -> compareInOrder(a, b, highFirst));
+            for (BudgetEntry entry : entries.subList(0, Math.min(limit, entries.size()))) {
+                positions.add(toCursor(entry, highFirst));
+            }
+            return positions;
+        }
+        
+        for (BudgetEntry entry : budgetOrder(highFirst, start)) {
+            if (positions.size() == limit) {
+                break;
+            }
+            if (candidates.contains(toBitmapId(entry.id()))) {
+                positions.add(toCursor(entry, highFirst));
+            }
+        }
+        return positions;
+    }
+    
+    // Entries strictly after start in the requested ordering, jobs without a budget last
+    private Iterable<BudgetEntry> budgetOrder(boolean highFirst, BudgetEntry start) {
+        if (highFirst) {
+            // NO_BUDGET sorts below every budget, so descending order already puts it last
+            return start == null
+                    ? jobsByMaxBudget.descendingSet()
+                    : jobsByMaxBudget.headSet(start, false).descendingSet();
+        }
+        BudgetEntry firstWithBudget = new BudgetEntry(NO_BUDGET + 1, Long.MIN_VALUE);
+        NavigableSet<BudgetEntry> withBudget = jobsByMaxBudget.tailSet(firstWithBudget, true);
+        NavigableSet<BudgetEntry> withoutBudget = jobsByMaxBudget.headSet(firstWithBudget, false);
+        if (start != null) {
+            if (start.maxBudget() == NO_BUDGET) {
+                withBudget = new TreeSet<>();
+                withoutBudget = withoutBudget.tailSet(start, false);
+            } else {
+                withBudget = withBudget.tailSet(start, false);
+            }
+        }
+        List<NavigableSet<BudgetEntry>> parts = List.of(withBudget, withoutBudget);
+        return () -> parts.stream().flatMap(Collection::stream).iterator();
+    }
+    
+    private static int compareInOrder(BudgetEntry a, BudgetEntry b, boolean highFirst) {
+        if (highFirst) {
+            return b.compareTo(a);
+        }
+        if ((a.maxBudget() == NO_BUDGET) != (b.maxBudget() == NO_BUDGET)) {
+            return a.maxBudget() == NO_BUDGET ? 1 : -1;
+        }
+        return a.compareTo(b);
+    }
+    
+    private static JobSearchCursor toCursor(BudgetEntry entry, boolean highFirst) {
+        BigInteger maxBudget = entry.maxBudget() == NO_BUDGET ? null : BigInteger.valueOf(entry.maxBudget());
+        return JobSearchCursor.ofBudget(highFirst, maxBudget, entry.id());
+    }
+    
+    // Caller must hold the read lock
+    private List<JobSearchCursor> urgentPositions(RoaringBitmap candidates, JobSearchCursor after, int limit) {
+        List<JobSearchCursor> positions = new ArrayList<>(limit);
+        if (after == null || after.urgent()) {
+            Long beforeId = after == null ? null : after.id();
+            newestIds(RoaringBitmap.and(candidates, urgentJobs), beforeId, limit)
+                    .forEach(id -> positions.add(JobSearchCursor.ofUrgent(true, id)));
+        }
+        if (positions.size() < limit) {
+            Long beforeId = after == null || after.urgent() ? null : after.id();
+            newestIds(RoaringBitmap.andNot(candidates, urgentJobs), beforeId, limit - positions.size())
+                    .forEach(id -> positions.add(JobSearchCursor.ofUrgent(false, id)));
+        }
+        return positions;
+    }
+    
+    /**
+     * Highest ids from the bitmap that are strictly below {@code beforeId}, in descending order.
+     * Job ids are assigned in creation order, so this is the newest-first ordering.
+     */
+    public static List<Long> newestIds(RoaringBitmap ids, Long beforeId, int limit) {
+        RoaringBitmap window = beforeId == null ? ids : RoaringBitmap.remove(ids, beforeId, MAX_BITMAP_ID + 1);
+        List<Long> result = new ArrayList<>(limit);
+        IntIterator iterator = window.getReverseIntIterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(Integer.toUnsignedLong(iterator.next()));
+        }
+        return result;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return openJobs.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void add(JobSnapshot job) {
+        int id = toBitmapId(job.getId());
+        openJobs.add(id);
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                jobsBySkill.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+                skillLabels.put(key, skill.trim());
+            }
+        }
+        String categoryKey = SearchTerms.normalize(job.getCategory());
+        if (categoryKey != null) {
+            jobsByCategory.computeIfAbsent(categoryKey, k -> new RoaringBitmap()).add(id);
+            categoryLabels.put(categoryKey, job.getCategory().trim());
+        }
+        if (job.getBudgetType() != null) {
+            jobsByBudgetType.computeIfAbsent(job.getBudgetType(), k -> new RoaringBitmap()).add(id);
+        }
+        if (job.isUrgent()) {
+            urgentJobs.add(id);
+        }
+        if (job.getMinBudgetCents() != null && job.getMaxBudgetCents() != null) {
+            long low = BudgetIntervalTree.toCents(job.getMinBudgetCents(), Long.MIN_VALUE);
+            long high = BudgetIntervalTree.toCents(job.getMaxBudgetCents(), Long.MAX_VALUE);
+            jobsByBudget.insert(job.getId(), low, high);
+            budgetsById.put(job.getId(), new long[] {low, high});
+        }
+        long maxBudget = job.getMaxBudgetCents() != null
+                ? BudgetIntervalTree.toCents(job.getMaxBudgetCents(), Long.MAX_VALUE)
+                : NO_BUDGET;
+        jobsByMaxBudget.add(new BudgetEntry(maxBudget, job.getId()));
+        maxBudgetById.put(job.getId(), maxBudget);
+    }
+    
+    private void remove(JobSnapshot job) {
+        int id = toBitmapId(job.getId());
+        openJobs.remove(id);
+        urgentJobs.remove(id);
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (removeFrom(jobsBySkill, key, id)) {
+                skillLabels.remove(key);
+            }
+        }
+        String categoryKey = SearchTerms.normalize(job.getCategory());
+        if (removeFrom(jobsByCategory, categoryKey, id)) {
+            categoryLabels.remove(categoryKey);
+        }
+        removeFrom(jobsByBudgetType, job.getBudgetType(), id);
+        long[] budget = budgetsById.remove(job.getId());
+        if (budget != null) {
+            jobsByBudget.remove(job.getId(), budget[0], budget[1]);
+        }
+        Long maxBudget = maxBudgetById.remove(job.getId());
+        if (maxBudget != null) {
+            jobsByMaxBudget.remove(new BudgetEntry(maxBudget, job.getId()));
+        }
+    }
+    
+    /**
+     * @return true if the key has no jobs left and was dropped
+     */
+    private static <K> boolean removeFrom(Map<K, RoaringBitmap> postings, K key, int id) {
+        if (key == null) {
+            return false;
+        }
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                postings.remove(key);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public static int toBitmapId(Long jobId) {
+        Objects.requireNonNull(jobId, "jobId");
+        // Ids are unsigned 32-bit values in the bitmap; sequence-generated ids stay well below that
+        if (jobId < 0 || jobId > MAX_BITMAP_ID) {
+            throw new IllegalStateException("Job id out of bitmap range: " + jobId);
+        }
+        return (int) jobId.longValue();
+    }
+}
@@ -0,0 +1,254 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchMatchedEvent;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchSnapshot;
+import com.thefreelancer.microservices.job_proposal.repository.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches. Instead of re-running every saved search
+ * against the jobs table, each job that becomes OPEN is matched once against
+ * the stored queries and a {@link SavedSearchMatchedEvent} is published per hit.
+ * <p>
+ * Every query is filed under its most selective filter: its skills (postings
+ * per skill), else its category, else its budget range (interval tree), else a
+ * short list of queries that only filter on budget type or urgency. A job
+ * looks up candidates through its own skills, category and budget, so the
+ * work grows with the number of candidates, not with the number of saved searches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SavedSearchPercolator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillTaxonomy skillTaxonomy;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, SavedSearchSnapshot> queries = new HashMap<>();
+    private final Map<String, Set<Long>> queriesBySkill = new HashMap<>();
+    private final Map<String, Set<Long>> queriesByCategory = new HashMap<>();
+    private final BudgetIntervalTree queriesByBudget = new BudgetIntervalTree();
+    private final Set<Long> unanchoredQueries = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSavedSearches() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            long cursor = afterId;
+            List<SavedSearchSnapshot> batch = transactionTemplate.execute(status ->
+                    savedSearchRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.ofSize(BATCH_SIZE))
+                            .stream()
+                            .map(SavedSearchSnapshot::from)
+                            .toList());
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                batch.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+
+        log.info("Loaded {} saved searches into the percolator", loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getSavedSearchId());
+            if (event.getCurrent() != null) {
+                put(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // Only jobs that just became visible are percolated; the startup replay is not news
+        if (event.getType() == JobChangedEvent.Type.LOADED || !event.isOpen() || event.wasOpen()) {
+            return;
+        }
+
+        JobSnapshot job = event.getCurrent();
+        List<SavedSearchSnapshot> matches = match(job);
+        if (!matches.isEmpty()) {
+            log.debug("Job {} matched {} saved searches", job.getId(), matches.size());
+        }
+        matches.forEach(query -> eventPublisher.publishEvent(
+                new SavedSearchMatchedEvent(query.getId(), query.getFreelancerId(), job.getId())));
+    }
+
+    /**
+     * Saved searches whose filters the job satisfies
+     */
+    public List<SavedSearchSnapshot> match(JobSnapshot job) {
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new LinkedHashSet<>(unanchoredQueries);
+            for (String skill : job.getSkills()) {
+                addAll(candidates, queriesBySkill.get(SearchTerms.normalize(skill)));
+            }
+            addAll(candidates, queriesByCategory.get(SearchTerms.normalize(job.getCategory())));
+            if (job.getMinBudgetCents() != null && job.getMaxBudgetCents() != null) {
+                queriesByBudget.overlapping(BudgetIntervalTree.toCents(job.getMinBudgetCents(), Long.MIN_VALUE),
+                        BudgetIntervalTree.toCents(job.getMaxBudgetCents(), Long.MAX_VALUE), candidates::add);
+            }
+
+            List<SavedSearchSnapshot> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                SavedSearchSnapshot query = queries.get(id);
+                if (query != null && matches(query, job)) {
+                    matches.add(query);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return queries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(SavedSearchSnapshot query) {
+        remove(query.getId());
+        queries.put(query.getId(), query);
+
+        Set<String> skills = normalizedSkills(query);
+        String category = SearchTerms.normalize(query.getCategory());
+        if (!skills.isEmpty()) {
+            skills.forEach(skill -> queriesBySkill.computeIfAbsent(skill, k -> new HashSet<>()).add(query.getId()));
+        } else if (category != null) {
+            queriesByCategory.computeIfAbsent(category, k -> new HashSet<>()).add(query.getId());
+        } else if (hasBudget(query)) {
+            queriesByBudget.insert(query.getId(), lowOf(query), highOf(query));
+        } else {
+            unanchoredQueries.add(query.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        SavedSearchSnapshot query = queries.remove(id);
+        if (query == null) {
+            return;
+        }
+
+        Set<String> skills = normalizedSkills(query);
+        String category = SearchTerms.normalize(query.getCategory());
+        if (!skills.isEmpty()) {
+            skills.forEach(skill -> removeFrom(queriesBySkill, skill, id));
+        } else if (category != null) {
+            removeFrom(queriesByCategory, category, id);
+        } else if (hasBudget(query)) {
+            queriesByBudget.remove(id, lowOf(query), highOf(query));
+        } else {
+            unanchoredQueries.remove(id);
+        }
+    }
+
+    private boolean matches(SavedSearchSnapshot query, JobSnapshot job) {
+        if (query.getUrgent() != null && query.getUrgent() != job.isUrgent()) {
+            return false;
+        }
+        if (query.getBudgetType() != null && query.getBudgetType() != job.getBudgetType()) {
+            return false;
+        }
+        String category = SearchTerms.normalize(query.getCategory());
+        if (category != null && !category.equals(SearchTerms.normalize(job.getCategory()))) {
+            return false;
+        }
+        if (hasBudget(query)) {
+            if (job.getMinBudgetCents() == null || job.getMaxBudgetCents() == null) {
+                return false;
+            }
+            if (BudgetIntervalTree.toCents(job.getMinBudgetCents(), Long.MIN_VALUE) > highOf(query)
+                    || BudgetIntervalTree.toCents(job.getMaxBudgetCents(), Long.MAX_VALUE) < lowOf(query)) {
+                return false;
+            }
+        }
+        Set<String> skills = normalizedSkills(query);
+        return skills.isEmpty() || job.getSkills().stream()
+                .map(SearchTerms::normalize)
+                .anyMatch(skills::contains);
+    }
+
+    // Saved skills widened through the taxonomy, so "Spring" also catches "Spring Boot" jobs
+    private Set<String> normalizedSkills(SavedSearchSnapshot query) {
+        return skillTaxonomy.expandAll(query.getSkills());
+    }
+
+    private static boolean hasBudget(SavedSearchSnapshot query) {
+        return query.getMinBudgetCents() != null || query.getMaxBudgetCents() != null;
+    }
+
+    private static long lowOf(SavedSearchSnapshot query) {
+        return BudgetIntervalTree.toCents(query.getMinBudgetCents(), Long.MIN_VALUE);
+    }
+
+    private static long highOf(SavedSearchSnapshot query) {
+        return BudgetIntervalTree.toCents(query.getMaxBudgetCents(), Long.MAX_VALUE);
+    }
+
+    private static void addAll(Set<Long> target, Set<Long> ids) {
+        if (ids != null) {
+            target.addAll(ids);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> postings, String key, Long id) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
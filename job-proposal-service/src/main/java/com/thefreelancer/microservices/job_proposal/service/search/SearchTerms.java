@@ -0,0 +1,24 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import java.util.Locale;
+
+/**
+ * Normalization shared by the in-memory job indexes so that "React ", "react"
+ * and "REACT" all land on the same key.
+ */
+public final class SearchTerms {
+    
+    private SearchTerms() {
+    }
+    
+    /**
+     * @return the normalized term, or null if the input is null or blank
+     */
+    public static String normalize(String term) {
+        if (term == null) {
+            return null;
+        }
+        String normalized = term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,248 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobsLoadedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vector index of OPEN jobs for semantic search. Job text is embedded by
+ * {@link JobTextEmbedder} and stored in Lucene's HNSW vector format on a
+ * memory-mapped directory, so the graph is searched off-heap and top-K
+ * queries visit only a small part of it.
+ * <p>
+ * Changes arrive incrementally through {@link JobChangedEvent}. The index is
+ * kept across restarts: each vector is stored with a hash of the text it was
+ * embedded from, so the startup replay of {@link JobIndexBootstrap} re-embeds
+ * only jobs whose text changed or that are new, and {@link JobsLoadedEvent}
+ * removes the jobs it did not replay. Changes not committed before a crash are
+ * caught the same way. The index is rebuilt when the embedder's fingerprint
+ * differs from the one it was written with.
+ */
+@Component
+@Slf4j
+public class SemanticJobIndex {
+
+    private static final String ID = "id";
+    private static final String ID_VALUE = "idValue";
+    private static final String VECTOR = "vector";
+    private static final String TEXT_HASH = "textHash";
+    private static final String EMBEDDER = "embedder"; // commit user data key
+
+    private static final double MAX_STALE_SEC = 1.0;
+    private static final double MIN_STALE_SEC = 0.025;
+
+    private final JobTextEmbedder embedder;
+    private final MMapDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    // Jobs found in the index on startup and not yet replayed: job id -> text hash
+    private final Map<Long, Long> unconfirmed = new ConcurrentHashMap<>();
+
+    public record Match(Long jobId, float score) {
+    }
+
+    public SemanticJobIndex(JobTextEmbedder embedder,
+                            @Value("${jobs.search.semantic.path}") String indexPath) throws IOException {
+        this.embedder = embedder;
+
+        Path path = Path.of(indexPath);
+        Files.createDirectories(path);
+        this.directory = new MMapDirectory(path);
+
+        String fingerprint = embedder.fingerprint();
+        boolean reuse = DirectoryReader.indexExists(directory)
+                && fingerprint.equals(SegmentInfos.readLatestCommit(directory).getUserData().get(EMBEDDER));
+        IndexWriterConfig config = new IndexWriterConfig();
+        config.setOpenMode(reuse ? IndexWriterConfig.OpenMode.CREATE_OR_APPEND : IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(directory, config);
+        writer.setLiveCommitData(Map.of(EMBEDDER, fingerprint).entrySet());
+        this.searcherManager = new SearcherManager(writer, null);
+        if (reuse) {
+            readPersisted();
+        }
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SEC, MIN_STALE_SEC);
+        reopenThread.setName("semantic-job-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        log.info("Semantic job index opened at {} with {} stored jobs", path.toAbsolutePath(), unconfirmed.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Term idTerm = new Term(ID, String.valueOf(event.getJobId()));
+        Long storedHash = unconfirmed.remove(event.getJobId());
+        String previousText = event.wasOpen() ? JobTextEmbedder.textOf(event.getPrevious()) : null;
+        String currentText = event.isOpen() ? JobTextEmbedder.textOf(event.getCurrent()) : null;
+        embedder.replaceDocument(previousText, currentText);
+        try {
+            float[] vector = null;
+            if (currentText != null) {
+                long textHash = textHash(currentText);
+                if (storedHash != null && storedHash == textHash) {
+                    return; // stored by an earlier run from the same text
+                }
+                vector = embedder.embed(currentText);
+            }
+
+            // Jobs whose text has no features (cosine is undefined for them) are left out
+            if (vector != null && !JobTextEmbedder.isZero(vector)) {
+                Document doc = new Document();
+                doc.add(new StringField(ID, String.valueOf(event.getJobId()), Field.Store.NO));
+                doc.add(new NumericDocValuesField(ID_VALUE, event.getJobId()));
+                doc.add(new NumericDocValuesField(TEXT_HASH, textHash(currentText)));
+                doc.add(new KnnFloatVectorField(VECTOR, vector, VectorSimilarityFunction.COSINE));
+                writer.updateDocument(idTerm, doc);
+            } else if (event.wasOpen() || storedHash != null) {
+                writer.deleteDocuments(idTerm);
+            }
+        } catch (IOException e) {
+            log.error("Failed to update semantic index for job {}: {}", event.getJobId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drop stored jobs the startup replay did not confirm (closed or deleted while the
+     * service was down) and commit, so the next start begins from this state
+     */
+    @EventListener
+    public void onJobsLoaded(JobsLoadedEvent event) {
+        try {
+            int removed = 0;
+            for (Long jobId : unconfirmed.keySet()) {
+                if (unconfirmed.remove(jobId) != null) {
+                    writer.deleteDocuments(new Term(ID, String.valueOf(jobId)));
+                    removed++;
+                }
+            }
+            writer.commit();
+            log.info("Semantic job index committed; removed {} jobs that are no longer open", removed);
+        } catch (IOException e) {
+            log.error("Failed to commit semantic index: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Approximate top-{@code k} OPEN jobs closest to the query text, best first
+     */
+    public List<Match> search(String query, int k) {
+        float[] vector = embedder.embed(query);
+        if (JobTextEmbedder.isZero(vector)) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(new KnnFloatVectorQuery(VECTOR, vector, k), k);
+
+            List<Match> matches = new ArrayList<>(topDocs.scoreDocs.length);
+            List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(scoreDoc.doc, leaves));
+                NumericDocValues ids = leaf.reader().getNumericDocValues(ID_VALUE);
+                if (ids != null && ids.advanceExact(scoreDoc.doc - leaf.docBase)) {
+                    matches.add(new Match(ids.longValue(), scoreDoc.score));
+                }
+            }
+            return matches;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Semantic job search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release semantic searcher: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Make every change applied so far searchable, without waiting for the reopen thread
+     */
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // Text hash of every live job stored by an earlier run
+    private void readPersisted() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                NumericDocValues ids = leaf.reader().getNumericDocValues(ID_VALUE);
+                NumericDocValues hashes = leaf.reader().getNumericDocValues(TEXT_HASH);
+                if (ids == null || hashes == null) {
+                    continue;
+                }
+                for (int doc = 0; doc < leaf.reader().maxDoc(); doc++) {
+                    if ((liveDocs == null || liveDocs.get(doc)) && ids.advanceExact(doc) && hashes.advanceExact(doc)) {
+                        unconfirmed.put(ids.longValue(), hashes.longValue());
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes; stable across JVMs, unlike String.hashCode's 32 bits
+    static long textHash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
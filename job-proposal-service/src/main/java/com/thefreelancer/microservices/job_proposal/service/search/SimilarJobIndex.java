@@ -0,0 +1,284 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory sparse vectors of OPEN jobs for "similar jobs" lookups.
+ * <p>
+ * A job vector has one feature per skill, its category, its budget type and
+ * order of magnitude, and its most frequent title/description words, weighted
+ * by TF-IDF and L2-normalized. Candidates come from the skill postings of the
+ * target job (newest first, capped), are scored by cosine similarity and kept
+ * in a bounded min-heap, so a lookup never scans all open jobs.
+ * <p>
+ * Stored vectors keep the IDF they were built with until the next startup
+ * rebuild.
+ */
+@Component
+public class SimilarJobIndex {
+
+    private static final int MAX_CANDIDATES = 5000;
+    private static final int MAX_WORDS = 40;
+
+    private static final float SKILL_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float BUDGET_WEIGHT = 1.0f;
+    private static final float WORD_WEIGHT = 1.0f;
+
+    public record Match(Long jobId, float score) {
+    }
+
+    // Features sorted by id so two vectors are multiplied with a linear merge
+    private record SparseVector(int[] features, float[] weights) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> featureIds = new HashMap<>();
+    private final Map<Integer, Integer> documentFrequencies = new HashMap<>();
+    private final Map<Long, SparseVector> vectors = new HashMap<>();
+    private final Map<String, RoaringBitmap> jobsBySkill = new HashMap<>();
+    private final Map<String, RoaringBitmap> jobsByCategory = new HashMap<>();
+    private int documentCount;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.wasOpen()) {
+                remove(event.getPrevious());
+            }
+            if (event.isOpen()) {
+                add(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code k} OPEN jobs most similar to the given job, best first. The job
+     * itself does not need to be OPEN.
+     */
+    public List<Match> similarTo(JobSnapshot job, int k) {
+        lock.readLock().lock();
+        try {
+            SparseVector target = vectors.get(job.getId());
+            if (target == null) {
+                target = vectorOf(job, false);
+            }
+
+            PriorityQueue<Match> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Match::score));
+            IntIterator candidates = candidatesOf(job).getReverseIntIterator(); // newest first
+            int visited = 0;
+            while (candidates.hasNext() && visited < MAX_CANDIDATES) {
+                long candidateId = Integer.toUnsignedLong(candidates.next());
+                visited++;
+                if (candidateId == job.getId()) {
+                    continue;
+                }
+                SparseVector vector = vectors.get(candidateId);
+                float score = dot(target, vector);
+                if (score <= 0) {
+                    continue;
+                }
+                if (heap.size() < k) {
+                    heap.add(new Match(candidateId, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Match(candidateId, score));
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(Comparator.comparingDouble(Match::score).reversed());
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Jobs sharing a skill; jobs without skills fall back to their category
+    private RoaringBitmap candidatesOf(JobSnapshot job) {
+        List<RoaringBitmap> postings = new ArrayList<>();
+        for (String skill : skillsOf(job)) {
+            RoaringBitmap bitmap = jobsBySkill.get(skill);
+            if (bitmap != null) {
+                postings.add(bitmap);
+            }
+        }
+        if (postings.isEmpty()) {
+            RoaringBitmap bitmap = jobsByCategory.get(SearchTerms.normalize(job.getCategory()));
+            if (bitmap != null) {
+                postings.add(bitmap);
+            }
+        }
+        return postings.isEmpty()
+                ? new RoaringBitmap()
+                : FastAggregation.or(postings.toArray(new RoaringBitmap[0]));
+    }
+
+    private void add(JobSnapshot job) {
+        Map<String, Float> features = features(job);
+        documentCount++;
+        features.keySet().forEach(feature ->
+                documentFrequencies.merge(featureIds.computeIfAbsent(feature, f -> featureIds.size()), 1, Integer::sum));
+        vectors.put(job.getId(), vectorOf(job, true));
+
+        int id = OpenJobBitmapIndex.toBitmapId(job.getId());
+        skillsOf(job).forEach(skill -> jobsBySkill.computeIfAbsent(skill, s -> new RoaringBitmap()).add(id));
+        String category = SearchTerms.normalize(job.getCategory());
+        if (category != null) {
+            jobsByCategory.computeIfAbsent(category, c -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void remove(JobSnapshot job) {
+        if (vectors.remove(job.getId()) == null) {
+            return;
+        }
+        documentCount--;
+        features(job).keySet().forEach(feature -> {
+            Integer featureId = featureIds.get(feature);
+            if (featureId != null) {
+                documentFrequencies.computeIfPresent(featureId, (f, df) -> df > 1 ? df - 1 : null);
+            }
+        });
+
+        int id = OpenJobBitmapIndex.toBitmapId(job.getId());
+        skillsOf(job).forEach(skill -> removeFrom(jobsBySkill, skill, id));
+        removeFrom(jobsByCategory, SearchTerms.normalize(job.getCategory()), id);
+    }
+
+    private SparseVector vectorOf(JobSnapshot job, boolean registerFeatures) {
+        TreeMap<Integer, Float> weights = new TreeMap<>();
+        double documents = Math.max(1, documentCount);
+        features(job).forEach((feature, weight) -> {
+            Integer featureId = registerFeatures
+                    ? featureIds.computeIfAbsent(feature, f -> featureIds.size())
+                    : featureIds.get(feature);
+            if (featureId == null) {
+                return; // no open job has this feature, so it cannot add to any score
+            }
+            int df = documentFrequencies.getOrDefault(featureId, 0);
+            float idf = (float) Math.log((documents + 1.0) / (df + 1.0)) + 1.0f;
+            weights.put(featureId, weight * idf);
+        });
+
+        int[] features = new int[weights.size()];
+        float[] values = new float[weights.size()];
+        double norm = 0;
+        int i = 0;
+        for (Map.Entry<Integer, Float> entry : weights.entrySet()) {
+            features[i] = entry.getKey();
+            values[i] = entry.getValue();
+            norm += values[i] * values[i];
+            i++;
+        }
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int j = 0; j < values.length; j++) {
+                values[j] *= scale;
+            }
+        }
+        return new SparseVector(features, values);
+    }
+
+    // Raw (pre-IDF) feature weights of a job
+    private static Map<String, Float> features(JobSnapshot job) {
+        Map<String, Float> features = new HashMap<>();
+        skillsOf(job).forEach(skill -> features.put("s:" + skill, SKILL_WEIGHT));
+
+        String category = SearchTerms.normalize(job.getCategory());
+        if (category != null) {
+            features.put("c:" + category, CATEGORY_WEIGHT);
+        }
+        if (job.getBudgetType() != null) {
+            features.put("b:" + job.getBudgetType() + ":" + budgetBand(job.getMaxBudgetCents()), BUDGET_WEIGHT);
+        }
+
+        Map<String, Integer> wordCounts = new HashMap<>();
+        JobTextEmbedder.tokenize(Objects.toString(job.getProjectName(), "") + " "
+                        + Objects.toString(job.getDescription(), ""))
+                .forEach(word -> wordCounts.merge(word, 1, Integer::sum));
+        wordCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_WORDS)
+                .forEach(entry -> features.put("w:" + entry.getKey(),
+                        WORD_WEIGHT * (1.0f + (float) Math.log(entry.getValue()))));
+        return features;
+    }
+
+    // Order of magnitude (power of two) of the budget in whole currency units
+    private static int budgetBand(BigInteger maxBudgetCents) {
+        if (maxBudgetCents == null || maxBudgetCents.signum() <= 0) {
+            return 0;
+        }
+        return maxBudgetCents.divide(BigInteger.valueOf(100)).bitLength();
+    }
+
+    private static Set<String> skillsOf(JobSnapshot job) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : job.getSkills()) {
+            String key = SearchTerms.normalize(skill);
+            if (key != null) {
+                skills.add(key);
+            }
+        }
+        return skills;
+    }
+
+    private static float dot(SparseVector a, SparseVector b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        float sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.features().length && j < b.features().length) {
+            int cmp = Integer.compare(a.features()[i], b.features()[j]);
+            if (cmp == 0) {
+                sum += a.weights()[i++] * b.weights()[j++];
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static void removeFrom(Map<String, RoaringBitmap> postings, String key, int id) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
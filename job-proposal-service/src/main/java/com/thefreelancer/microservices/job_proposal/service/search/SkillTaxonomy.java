@@ -0,0 +1,157 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Canonical skills with their synonyms and parent/child relations, read from
+ * {@code search/skill-taxonomy.txt} at startup.
+ * <p>
+ * The transitive closure is precomputed once: every known spelling maps to the
+ * normalized spellings of its skill and of all skills below it. Expanding a
+ * query skill is then one map lookup, and matching stays an exact-term lookup
+ * in the indexes, so recall improves without extra work per query.
+ */
+@Component
+@Slf4j
+public class SkillTaxonomy {
+
+    private static final String TAXONOMY_RESOURCE = "search/skill-taxonomy.txt";
+
+    // normalized spelling -> normalized spellings a filter on it should match (including itself)
+    private final Map<String, Set<String>> closures;
+
+    public SkillTaxonomy() {
+        this(readLines());
+    }
+
+    SkillTaxonomy(List<String> lines) {
+        this.closures = buildClosures(lines);
+        log.info("Loaded skill taxonomy with {} spellings", closures.size());
+    }
+
+    /**
+     * Normalized spellings that a filter on this skill matches: its synonyms and
+     * everything below it. An unknown skill expands to itself; null/blank to nothing.
+     */
+    public Set<String> expand(String skill) {
+        String key = SearchTerms.normalize(skill);
+        if (key == null) {
+            return Set.of();
+        }
+        return closures.getOrDefault(key, Set.of(key));
+    }
+
+    /**
+     * Union of the expansions of several skills
+     */
+    public Set<String> expandAll(Collection<String> skills) {
+        Set<String> expanded = new LinkedHashSet<>();
+        if (skills != null) {
+            skills.forEach(skill -> expanded.addAll(expand(skill)));
+        }
+        return expanded;
+    }
+
+    public boolean isKnown(String skill) {
+        String key = SearchTerms.normalize(skill);
+        return key != null && closures.containsKey(key);
+    }
+
+    private static Map<String, Set<String>> buildClosures(List<String> lines) {
+        Map<String, Set<String>> spellings = new LinkedHashMap<>(); // canonical -> its own spellings
+        Map<String, List<String>> children = new HashMap<>();
+        Map<String, String> parents = new HashMap<>();
+
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int equals = line.indexOf('=');
+            String head = equals < 0 ? line : line.substring(0, equals);
+            String synonyms = equals < 0 ? "" : line.substring(equals + 1);
+
+            int lessThan = head.indexOf('<');
+            String canonical = SearchTerms.normalize(lessThan < 0 ? head : head.substring(0, lessThan));
+            String parent = lessThan < 0 ? null : SearchTerms.normalize(head.substring(lessThan + 1));
+            if (canonical == null) {
+                continue;
+            }
+
+            Set<String> own = spellings.computeIfAbsent(canonical, c -> new LinkedHashSet<>());
+            own.add(canonical);
+            for (String synonym : synonyms.split(",")) {
+                String key = SearchTerms.normalize(synonym);
+                if (key != null) {
+                    own.add(key);
+                }
+            }
+            if (parent != null && !parent.equals(canonical)) {
+                parents.put(canonical, parent);
+                children.computeIfAbsent(parent, p -> new ArrayList<>()).add(canonical);
+            }
+        }
+        parents.forEach((child, parent) -> {
+            if (!spellings.containsKey(parent)) {
+                log.warn("Skill taxonomy: parent '{}' of '{}' is not declared", parent, child);
+                spellings.put(parent, new LinkedHashSet<>(Set.of(parent)));
+            }
+        });
+
+        Map<String, Set<String>> closures = new HashMap<>();
+        for (String canonical : spellings.keySet()) {
+            // Walk down the hierarchy; the visited set also stops accidental cycles
+            Set<String> closure = new LinkedHashSet<>();
+            Set<String> visited = new HashSet<>();
+            Deque<String> pending = new ArrayDeque<>(List.of(canonical));
+            while (!pending.isEmpty()) {
+                String skill = pending.pop();
+                if (visited.add(skill)) {
+                    closure.addAll(spellings.get(skill));
+                    pending.addAll(children.getOrDefault(skill, List.of()));
+                }
+            }
+            Set<String> frozen = Set.copyOf(closure);
+            for (String spelling : spellings.get(canonical)) {
+                closures.merge(spelling, frozen, SkillTaxonomy::union);
+            }
+        }
+        return Map.copyOf(closures);
+    }
+
+    // A spelling listed under two skills matches the closures of both
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        Set<String> union = new HashSet<>(a);
+        union.addAll(b);
+        return Set.copyOf(union);
+    }
+
+    private static List<String> readLines() {
+        ClassPathResource resource = new ClassPathResource(TAXONOMY_RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + TAXONOMY_RESOURCE, e);
+        }
+    }
+}
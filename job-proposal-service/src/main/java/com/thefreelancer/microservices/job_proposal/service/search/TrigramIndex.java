@@ -0,0 +1,153 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over a changing set of weighted terms, for typo-tolerant lookup
+ * in the spirit of pg_trgm: a term is split into the three-letter windows of
+ * its letters and digits (padded at both ends), and similarity is the Jaccard
+ * overlap of two trigram sets. Separators are ignored, so "java script" and
+ * "JavaScript" share every trigram.
+ * <p>
+ * A lookup only scores terms that share at least one trigram with the query.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+class TrigramIndex {
+
+    record Match(String key, String label, double similarity) {
+    }
+
+    private record Term(String key, String label, int gramCount, int weight) {
+    }
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Term> terms = new ArrayList<>(); // by term id, null once removed
+    private final List<Integer> freeIds = new ArrayList<>();
+    private final Map<String, RoaringBitmap> termsByGram = new HashMap<>();
+
+    /**
+     * Adjust the weight of a normalized key; a key whose weight drops to zero is removed.
+     */
+    void add(String key, String label, int delta) {
+        Integer id = termIds.get(key);
+        if (id == null) {
+            if (delta <= 0) {
+                return;
+            }
+            Set<String> grams = trigrams(key);
+            id = freeIds.isEmpty() ? terms.size() : freeIds.remove(freeIds.size() - 1);
+            Term term = new Term(key, label, grams.size(), delta);
+            if (id == terms.size()) {
+                terms.add(term);
+            } else {
+                terms.set(id, term);
+            }
+            termIds.put(key, id);
+            for (String gram : grams) {
+                termsByGram.computeIfAbsent(gram, g -> new RoaringBitmap()).add(id);
+            }
+            return;
+        }
+
+        Term term = terms.get(id);
+        int weight = term.weight() + delta;
+        if (weight > 0) {
+            terms.set(id, new Term(key, delta > 0 ? label : term.label(), term.gramCount(), weight));
+            return;
+        }
+        terms.set(id, null);
+        termIds.remove(key);
+        freeIds.add(id);
+        for (String gram : trigrams(key)) {
+            RoaringBitmap posting = termsByGram.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    termsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    boolean contains(String key) {
+        return termIds.containsKey(key);
+    }
+
+    String label(String key) {
+        Integer id = termIds.get(key);
+        return id != null ? terms.get(id).label() : null;
+    }
+
+    int size() {
+        return termIds.size();
+    }
+
+    /**
+     * Up to {@code limit} indexed terms at least {@code minSimilarity} similar to
+     * the given term, most similar first (heavier terms win ties). Stops counting
+     * once {@code deadlineNanos} (a {@link System#nanoTime()} value) has passed
+     * and ranks what it has seen so far.
+     */
+    List<Match> nearest(String term, int limit, double minSimilarity, long deadlineNanos) {
+        Set<String> grams = trigrams(term);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            RoaringBitmap posting = termsByGram.get(gram);
+            if (posting != null) {
+                IntIterator ids = posting.getIntIterator();
+                while (ids.hasNext()) {
+                    shared.merge(ids.next(), 1, Integer::sum);
+                }
+            }
+            if (System.nanoTime() - deadlineNanos > 0) {
+                break;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        Map<String, Integer> weights = new HashMap<>();
+        shared.forEach((id, common) -> {
+            Term candidate = terms.get(id);
+            double similarity = (double) common / (grams.size() + candidate.gramCount() - common);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate.key(), candidate.label(), similarity));
+                weights.put(candidate.key(), candidate.weight());
+            }
+        });
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+                .thenComparing(match -> weights.get(match.key()), Comparator.reverseOrder())
+                .thenComparing(Match::key));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    static Set<String> trigrams(String term) {
+        StringBuilder letters = new StringBuilder("  ");
+        term.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(letters::appendCodePoint);
+        if (letters.length() == 2) {
+            return Set.of();
+        }
+        letters.append(' ');
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= letters.length(); i++) {
+            grams.add(letters.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
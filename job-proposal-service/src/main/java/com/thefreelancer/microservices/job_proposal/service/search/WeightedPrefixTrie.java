@@ -0,0 +1,124 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Character trie of weighted terms that answers "top-k completions of a prefix"
+ * without visiting the whole subtree. Every node keeps the largest weight found
+ * below it, so a best-first walk can stop as soon as k terms are emitted.
+ * <p>
+ * Weights change incrementally; nodes whose subtree drops to zero are pruned.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+class WeightedPrefixTrie {
+
+    record Completion(String key, String label, int weight) {
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        String key;
+        String label;
+        int weight; // number of jobs for the term ending here, 0 if none
+        int best;   // max weight in this subtree, including this node
+    }
+
+    // Heap entry: either a node to expand or a term to emit
+    private record Candidate(Node node, boolean emit, int priority) {
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingInt(Candidate::priority).reversed()
+            .thenComparing(Candidate::emit, Comparator.reverseOrder());
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adjust the weight of a normalized key. The label is what suggestions show.
+     */
+    void add(String key, String label, int delta) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node parent = node;
+            node = delta > 0
+                    ? parent.children.computeIfAbsent(key.charAt(i), c -> new Node())
+                    : parent.children.get(key.charAt(i));
+            if (node == null) {
+                return; // removing a key that is not present
+            }
+            path.add(node);
+        }
+
+        int before = node.weight;
+        node.weight = Math.max(0, node.weight + delta);
+        if (before == 0 && node.weight > 0) {
+            size++;
+            node.key = key;
+        } else if (before > 0 && node.weight == 0) {
+            size--;
+            node.key = null;
+            node.label = null;
+        }
+        if (delta > 0 && label != null) {
+            node.label = label;
+        }
+
+        // Recompute subtree maxima bottom-up and prune empty branches
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            int best = current.weight;
+            for (Node child : current.children.values()) {
+                best = Math.max(best, child.best);
+            }
+            current.best = best;
+            if (i > 0 && best == 0 && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Up to {@code limit} terms starting with the normalized prefix, heaviest first.
+     * An empty prefix returns the heaviest terms overall.
+     */
+    List<Completion> topK(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        List<Completion> result = new ArrayList<>(limit);
+        if (node == null || node.best == 0) {
+            return result;
+        }
+
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(BEST_FIRST);
+        heap.add(new Candidate(node, false, node.best));
+        while (!heap.isEmpty() && result.size() < limit) {
+            Candidate candidate = heap.poll();
+            Node current = candidate.node();
+            if (candidate.emit()) {
+                result.add(new Completion(current.key, current.label, current.weight));
+                continue;
+            }
+            if (current.weight > 0) {
+                heap.add(new Candidate(current, true, current.weight));
+            }
+            for (Node child : current.children.values()) {
+                heap.add(new Candidate(child, false, child.best));
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+}
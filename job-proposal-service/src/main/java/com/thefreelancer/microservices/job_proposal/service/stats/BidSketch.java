@@ -0,0 +1,142 @@
+package com.thefreelancer.microservices.job_proposal.service.stats;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch of bid amounts in cents, after DDSketch: values are
+ * counted in logarithmic buckets whose bounds grow by a factor
+ * {@code (1 + a) / (1 - a)}, so every quantile is returned within a relative
+ * error of {@code a} (1%). Unlike a t-digest, a bucket count can simply be
+ * decremented, so a withdrawn or repriced bid is taken out again exactly.
+ * <p>
+ * Buckets are kept sparse; the amounts a job attracts span few of them, and the
+ * whole range of a long needs fewer than 2200. Not thread-safe.
+ */
+public final class BidSketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Integer> buckets = new TreeMap<>();
+    private int zeroCount; // amounts of 0 or less, which have no logarithm
+    private int count;
+
+    public void add(long cents) {
+        if (cents <= 0) {
+            zeroCount++;
+        } else {
+            buckets.merge(indexOf(cents), 1, Integer::sum);
+        }
+        count++;
+    }
+
+    /**
+     * Take out one amount previously added
+     *
+     * @return false when no such amount was counted
+     */
+    public boolean remove(long cents) {
+        if (cents <= 0) {
+            if (zeroCount == 0) {
+                return false;
+            }
+            zeroCount--;
+        } else {
+            int index = indexOf(cents);
+            Integer bucket = buckets.get(index);
+            if (bucket == null) {
+                return false;
+            }
+            if (bucket == 1) {
+                buckets.remove(index);
+            } else {
+                buckets.put(index, bucket - 1);
+            }
+        }
+        count--;
+        return true;
+    }
+
+    public void merge(BidSketch other) {
+        other.buckets.forEach((index, bucket) -> buckets.merge(index, bucket, Integer::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * The amount at quantile {@code q} in [0, 1], or null when the sketch is empty
+     */
+    public Long quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return null;
+        }
+        double rank = q * (count - 1);
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0L;
+        }
+        for (Map.Entry<Integer, Integer> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 2 * Integer.BYTES + buckets.size() * 2 * Integer.BYTES);
+        buffer.put(FORMAT_VERSION);
+        buffer.putInt(zeroCount);
+        buffer.putInt(buckets.size());
+        buckets.forEach((index, bucket) -> buffer.putInt(index).putInt(bucket));
+        return buffer.array();
+    }
+
+    /**
+     * Read a sketch written by {@link #toBytes()}; null or empty bytes give an empty sketch
+     */
+    public static BidSketch fromBytes(byte[] bytes) {
+        BidSketch sketch = new BidSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported bid sketch format: " + version);
+        }
+        sketch.zeroCount = buffer.getInt();
+        sketch.count = sketch.zeroCount;
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            int index = buffer.getInt();
+            int bucket = buffer.getInt();
+            sketch.buckets.put(index, bucket);
+            sketch.count += bucket;
+        }
+        return sketch;
+    }
+
+    // Bucket i holds the amounts in (GAMMA^(i-1), GAMMA^i]
+    private static int indexOf(long cents) {
+        return (int) Math.ceil(Math.log(cents) / LOG_GAMMA);
+    }
+
+    // The point of the bucket with the same relative distance to both bounds
+    private static long valueOf(int index) {
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
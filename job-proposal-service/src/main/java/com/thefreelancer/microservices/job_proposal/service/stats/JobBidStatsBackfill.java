@@ -0,0 +1,48 @@
+package com.thefreelancer.microservices.job_proposal.service.stats;
+
+import com.thefreelancer.microservices.job_proposal.repository.JobRepository;
+import com.thefreelancer.microservices.job_proposal.service.JobBidStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeds the bid stats of jobs that received proposals before the stats existed.
+ * Runs on every startup but only finds work once: jobs without proposals need no
+ * row, and every later proposal creates its job's row itself. Each job is seeded
+ * in its own transaction, so a bid arriving meanwhile is never lost.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobBidStatsBackfill {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final JobRepository jobRepository;
+    private final JobBidStatsService jobBidStatsService;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedMissingStats() {
+        long afterId = 0;
+        int seeded = 0;
+        while (true) {
+            List<Long> batch = jobRepository.findJobIdsWithoutBidStats(afterId, PageRequest.ofSize(BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(jobBidStatsService::initialize);
+            seeded += batch.size();
+            afterId = batch.get(batch.size() - 1);
+        }
+        
+        if (seeded > 0) {
+            log.info("Seeded bid stats for {} jobs", seeded);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+-- Database objects that Hibernate's ddl-auto cannot express.
+-- Runs after Hibernate on every startup (spring.jpa.defer-datasource-initialization),
+-- so every statement must be idempotent.
+
+-- Full-text search over jobs: projectName (weight A) ranks above description (weight B).
+-- A stored generated column keeps the vector in sync with the row without triggers.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(project_name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+-- Skill filters are served by the in-memory OpenJobBitmapIndex, so skills stay in job_skills.
+-- Remove the skill-id dictionary and column an earlier version kept; a no-op once they are gone.
+ALTER TABLE jobs DROP COLUMN IF EXISTS skill_ids;
+DROP TABLE IF EXISTS skills;
+
+-- Explicit search orderings (JobRepository.findOpenJobsByBudgetDesc/Asc, findOpenJobsUrgentFirst).
+-- Partial indexes over OPEN jobs keyed by exactly the ORDER BY expressions, so every page is
+-- an ordered index range scan with LIMIT and no sort step. Newest first is served by
+-- idx_jobs_status_created_at_id (declared on the Job entity).
+CREATE INDEX IF NOT EXISTS idx_jobs_open_budget_high
+    ON jobs ((coalesce(max_budget_cents, -1)), id) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobs_open_budget_low
+    ON jobs ((coalesce(max_budget_cents, 9223372036854775807)), id) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobs_open_urgent
+    ON jobs ((coalesce(is_urgent, false)), id) WHERE status = 'OPEN';
+
+-- Orderings of a client's own jobs (my-jobs); NULLS LAST matches Sort.Order#nullsLast in JobService.
+CREATE INDEX IF NOT EXISTS idx_jobs_client_newest
+    ON jobs (client_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_client_budget_high
+    ON jobs (client_id, max_budget_cents DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_client_budget_low
+    ON jobs (client_id, max_budget_cents ASC NULLS LAST, id ASC);
+CREATE INDEX IF NOT EXISTS idx_jobs_client_urgent
+    ON jobs (client_id, is_urgent DESC NULLS LAST, id DESC);
+
+-- Keyset pages of one job's proposals (ProposalRepository.findPageByJobIdCheapest/Fastest).
+-- Newest first uses idx_proposals_job_id_created_at_id (declared on the Proposal entity).
+CREATE INDEX IF NOT EXISTS idx_proposals_job_price
+    ON proposals (job_id, (coalesce(total_cents, 9223372036854775807)), id);
+CREATE INDEX IF NOT EXISTS idx_proposals_job_delivery
+    ON proposals (job_id, (coalesce(delivery_days, 2147483647)), id);
+
+-- One-shot data migrations record themselves here, so a backfill that has no cheap
+-- "still missing" predicate runs on the first startup only.
+CREATE TABLE IF NOT EXISTS data_migrations (
+    name       varchar(100) PRIMARY KEY,
+    applied_at timestamp    NOT NULL DEFAULT now()
+);
+
+-- Proposal counters on jobs (ProposalCounts): Hibernate adds the columns with default 0 and
+-- ProposalCountService keeps them current. Jobs that already had proposals before the
+-- columns existed are counted once; the uncorrelated NOT EXISTS is evaluated once up front,
+-- so once the marker row exists the statement reads no jobs or proposals at all.
+UPDATE jobs j
+   SET proposal_count = c.total,
+       proposals_submitted = c.submitted,
+       proposals_withdrawn = c.withdrawn,
+       proposals_declined = c.declined,
+       proposals_accepted = c.accepted,
+       proposals_contracted = c.contracted
+  FROM (SELECT p.job_id,
+               count(*) AS total,
+               count(*) FILTER (WHERE p.status = 'SUBMITTED') AS submitted,
+               count(*) FILTER (WHERE p.status = 'WITHDRAWN') AS withdrawn,
+               count(*) FILTER (WHERE p.status = 'DECLINED') AS declined,
+               count(*) FILTER (WHERE p.status = 'ACCEPTED') AS accepted,
+               count(*) FILTER (WHERE p.status = 'CONTRACTED') AS contracted
+          FROM proposals p
+         GROUP BY p.job_id) c
+ WHERE j.id = c.job_id
+   AND j.proposal_count = 0
+   AND NOT EXISTS (SELECT 1 FROM data_migrations m WHERE m.name = 'job_proposal_counts');
+
+INSERT INTO data_migrations (name) VALUES ('job_proposal_counts')
+ON CONFLICT (name) DO NOTHING;
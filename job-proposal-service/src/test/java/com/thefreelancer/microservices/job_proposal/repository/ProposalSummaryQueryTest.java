@@ -0,0 +1,104 @@
+package com.thefreelancer.microservices.job_proposal.repository;
+
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A freelancer's proposal list is one query, however many jobs the proposals span
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never" // schema.sql is Postgres-only
+})
+class ProposalSummaryQueryTest {
+
+    private static final Long FREELANCER_ID = 7L;
+    private static final int PROPOSALS = 25;
+    private static final LocalDateTime START = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PROPOSALS; i++) {
+            Job job = Job.builder()
+                    .clientId(42L)
+                    .projectName("Job " + i)
+                    .budgetType(Job.BudgetType.FIXED)
+                    .skills(new ArrayList<>(List.of("Java")))
+                    .build();
+            entityManager.persist(job);
+            entityManager.persist(Proposal.builder()
+                    .job(job)
+                    .freelancerId(FREELANCER_ID)
+                    .cover("Cover " + i)
+                    .totalCents(BigInteger.valueOf(10_000L + i))
+                    .deliveryDays(5)
+                    .status(i % 5 == 0 ? Proposal.ProposalStatus.WITHDRAWN : Proposal.ProposalStatus.SUBMITTED)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testSummaries_OneQueryWithJobTitles() {
+        // When
+        List<ProposalRepository.ProposalSummary> page = proposalRepository.findSummariesByFreelancerId(
+                FREELANCER_ID, null, START, Long.MAX_VALUE, PageRequest.ofSize(PROPOSALS));
+
+        // Then
+        assertEquals(PROPOSALS, page.size());
+        assertTrue(page.stream().allMatch(row -> row.getJobTitle().startsWith("Job ")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testSummaries_KeysetPagesWithStatusFilter() {
+        // When
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime afterCreatedAt = START;
+        Long afterId = Long.MAX_VALUE;
+        while (true) {
+            List<ProposalRepository.ProposalSummary> page = proposalRepository.findSummariesByFreelancerId(
+                    FREELANCER_ID, Proposal.ProposalStatus.SUBMITTED, afterCreatedAt, afterId, PageRequest.ofSize(7));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> ids.add(row.getId()));
+            ProposalRepository.ProposalSummary last = page.get(page.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+        }
+
+        // Then
+        assertEquals(20, ids.size());
+        assertEquals(20, ids.stream().distinct().count());
+    }
+}
@@ -0,0 +1,141 @@
+package com.thefreelancer.microservices.job_proposal.service;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobResponseDto;
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
+import com.thefreelancer.microservices.job_proposal.mapper.JobMapperImpl;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.service.feed.FreelancerProfileCache;
+import com.thefreelancer.microservices.job_proposal.service.feed.JobFeedIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.AppliedJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.DuplicateJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.FuzzyTermExpander;
+import com.thefreelancer.microservices.job_proposal.service.search.JobSearchCache;
+import com.thefreelancer.microservices.job_proposal.service.search.JobTermSuggester;
+import com.thefreelancer.microservices.job_proposal.service.search.OpenJobBitmapIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SemanticJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SimilarJobIndex;
+import com.thefreelancer.microservices.job_proposal.service.search.SkillTaxonomy;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * The JobService list paths must not issue one job_skills query per job
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never" // schema.sql is Postgres-only
+})
+@Import({JobService.class, JobMapperImpl.class, JobSearchCache.class, OpenJobBitmapIndex.class, SkillTaxonomy.class})
+class JobSkillsFetchTest {
+
+    private static final Long CLIENT_ID = 42L;
+    private static final int JOBS = 30;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // Collaborators the list paths under test do not touch
+    @MockitoBean
+    private SemanticJobIndex semanticJobIndex;
+    @MockitoBean
+    private JobTermSuggester jobTermSuggester;
+    @MockitoBean
+    private DuplicateJobIndex duplicateJobIndex;
+    @MockitoBean
+    private SimilarJobIndex similarJobIndex;
+    @MockitoBean
+    private FreelancerProfileCache freelancerProfileCache;
+    @MockitoBean
+    private JobFeedIndex jobFeedIndex;
+    @MockitoBean
+    private AppliedJobIndex appliedJobIndex;
+    @MockitoBean
+    private FuzzyTermExpander fuzzyTermExpander;
+
+    private Statistics statistics;
+    private final List<Long> jobIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < JOBS; i++) {
+            Job job = Job.builder()
+                    .clientId(CLIENT_ID)
+                    .projectName("Job " + i)
+                    .budgetType(Job.BudgetType.FIXED)
+                    .skills(new ArrayList<>(List.of("Java", "Spring", "Skill " + i)))
+                    .build();
+            jobIds.add(entityManager.persistAndGetId(job, Long.class));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testClientJobs_LoadSkillsInSameQuery() {
+        // When
+        List<JobResponseDto> unordered = jobService.getJobsByClientId(CLIENT_ID);
+        List<JobResponseDto> newest = jobService.getJobsByClientId(CLIENT_ID, JobSort.NEWEST);
+
+        // Then
+        assertSkillsLoaded(unordered);
+        assertSkillsLoaded(newest);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSearchJobs_LoadsSkillsInOneBatch() {
+        // Given
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setLimit(JOBS);
+
+        // When
+        List<JobResponseDto> jobs = jobService.searchJobs(criteria).getItems();
+
+        // Then
+        assertSkillsLoaded(jobs);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSemanticSearch_LoadsSkillsInOneBatch() {
+        // Given
+        when(semanticJobIndex.search(anyString(), anyInt())).thenReturn(jobIds.stream()
+                .map(id -> new SemanticJobIndex.Match(id, 1.0f))
+                .toList());
+
+        // When
+        List<JobResponseDto> jobs = jobService.semanticSearch("spring developer", JOBS);
+
+        // Then
+        assertSkillsLoaded(jobs);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static void assertSkillsLoaded(List<JobResponseDto> jobs) {
+        assertEquals(JOBS, jobs.size());
+        assertTrue(jobs.stream().allMatch(job -> job.getSkills().size() == 3));
+    }
+}
@@ -0,0 +1,103 @@
+package com.thefreelancer.microservices.job_proposal.service.ranking;
+
+import com.thefreelancer.microservices.job_proposal.model.Proposal;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProposalRankerTest {
+
+    private static final BigInteger MIN_BUDGET = BigInteger.valueOf(100_000);
+    private static final BigInteger MAX_BUDGET = BigInteger.valueOf(200_000);
+
+    @Test
+    void testTopK_BestFirst() {
+        // Given
+        List<ProposalFeatures> proposals = List.of(
+                submitted(1L, 10L, 150_000, 10, 2, 150_000),  // in budget, full milestones
+                submitted(2L, 20L, 400_000, 5, 0, 0),         // twice the maximum
+                submitted(3L, 30L, 150_000, 10, 2, 150_000),  // like 1, with a track record
+                submitted(4L, 40L, 20_000, 20, 0, 0));        // far below the minimum
+
+        // When
+        List<ProposalRanker.RankedProposal> ranked = ProposalRanker.topK(MIN_BUDGET, MAX_BUDGET, proposals,
+                id -> id == 30L ? 6 : 0, 3);
+
+        // Then
+        assertEquals(List.of(3L, 1L, 2L), ranked.stream().map(ProposalRanker.RankedProposal::proposalId).toList());
+        assertEquals(1.0, ranked.get(1).priceFit());
+        assertEquals(0.5, ranked.get(2).priceFit());
+        assertEquals(1.0, ranked.get(2).deliverySpeed());
+        assertEquals(6, ranked.get(0).completedContracts());
+    }
+
+    @Test
+    void testTopK_SkipsClosedProposals() {
+        // Given
+        List<ProposalFeatures> proposals = List.of(
+                new ProposalFeatures(1L, 10L, Proposal.ProposalStatus.WITHDRAWN, 150_000, 1, 0, 0),
+                new ProposalFeatures(2L, 20L, Proposal.ProposalStatus.DECLINED, 150_000, 1, 0, 0),
+                submitted(3L, 30L, 150_000, 10, 0, 0));
+
+        // When
+        List<ProposalRanker.RankedProposal> ranked = ProposalRanker.topK(MIN_BUDGET, MAX_BUDGET, proposals,
+                id -> 0, 10);
+
+        // Then
+        assertEquals(1, ranked.size());
+        assertEquals(3L, ranked.get(0).proposalId());
+        assertEquals(1.0, ranked.get(0).deliverySpeed()); // the withdrawn one-day bid does not count
+    }
+
+    @Test
+    void testTopK_MatchesFullSort() {
+        // Given
+        List<ProposalFeatures> proposals = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            proposals.add(submitted(id, id % 37, 50_000 + (id * 7919) % 300_000, 1 + (int) (id % 30),
+                    (int) (id % 4), (id * 104_729) % 250_000));
+        }
+
+        // When
+        List<ProposalRanker.RankedProposal> top = ProposalRanker.topK(MIN_BUDGET, null, proposals,
+                id -> (int) (id % 5), 25);
+        List<ProposalRanker.RankedProposal> all = new ArrayList<>(ProposalRanker.topK(MIN_BUDGET, null, proposals,
+                id -> (int) (id % 5), proposals.size()));
+
+        // Then
+        assertEquals(500, all.size());
+        assertTrue(isBestFirst(all));
+        assertEquals(all.subList(0, 25), top);
+    }
+
+    @Test
+    void testMilestoneCompleteness_PenalizesGapsAndOvershoot() {
+        assertEquals(0.0, ProposalRanker.milestoneCompleteness(submitted(1L, 1L, 100_000, 5, 0, 0)));
+        assertEquals(0.5, ProposalRanker.milestoneCompleteness(submitted(1L, 1L, 100_000, 5, 1, 50_000)));
+        assertEquals(0.75, ProposalRanker.milestoneCompleteness(submitted(1L, 1L, 100_000, 5, 3, 125_000)));
+        assertEquals(1.0, ProposalRanker.milestoneCompleteness(submitted(1L, 1L, 100_000, 5, 3, 100_000)));
+    }
+
+    private static boolean isBestFirst(List<ProposalRanker.RankedProposal> ranked) {
+        Comparator<ProposalRanker.RankedProposal> bestFirst = Comparator
+                .comparingDouble(ProposalRanker.RankedProposal::score).reversed()
+                .thenComparing(ProposalRanker.RankedProposal::proposalId);
+        for (int i = 1; i < ranked.size(); i++) {
+            if (bestFirst.compare(ranked.get(i - 1), ranked.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ProposalFeatures submitted(Long id, Long freelancerId, long totalCents, int deliveryDays,
+                                              int milestones, long milestoneCents) {
+        return new ProposalFeatures(id, freelancerId, Proposal.ProposalStatus.SUBMITTED, totalCents, deliveryDays,
+                milestones, milestoneCents);
+    }
+}
@@ -0,0 +1,104 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobSearchCriteria;
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the jobs.search.backend=lucene search path, so the Lucene backend is compiled
+ * and paged through by the default build
+ */
+class LuceneJobIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @TempDir
+    Path indexPath;
+
+    private LuceneJobIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new LuceneJobIndex(indexPath.toString(), new SkillTaxonomy(List.of()));
+
+        open(1L, "Spring REST API", 50_000, false);
+        open(2L, "Mobile app", 0, true);
+        open(3L, "Spring batch jobs", 90_000, false);
+        open(4L, "Spring Boot migration", 20_000, true);
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void testSearch_PagesThroughEveryOrdering() {
+        assertEquals(List.of(4L, 3L, 2L, 1L), pageThrough(criteria(null, null), 3));
+        assertEquals(List.of(3L, 1L, 4L, 2L), pageThrough(criteria(null, JobSort.BUDGET_HIGH), 1));
+        assertEquals(List.of(4L, 1L, 3L, 2L), pageThrough(criteria(null, JobSort.BUDGET_LOW), 2));
+        assertEquals(List.of(4L, 2L, 3L, 1L), pageThrough(criteria(null, JobSort.URGENT), 3));
+        assertEquals(List.of(4L, 3L, 1L), pageThrough(criteria("spring", JobSort.NEWEST), 2));
+        assertEquals(3, pageThrough(criteria("spring", null), 1).size());
+    }
+
+    @Test
+    void testSearch_RejectsIdOnlyCursor() {
+        JobSearchCursor after = JobSearchCursor.ofNewestId(3L);
+
+        assertThrows(IllegalArgumentException.class, () -> index.search(criteria(null, null), after, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.search(criteria(null, JobSort.BUDGET_HIGH), after, 10));
+    }
+
+    // Every id in order, following each page's last cursor like a client following nextCursor
+    private List<Long> pageThrough(JobSearchCriteria criteria, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        JobSearchCursor after = null;
+        while (true) {
+            List<LuceneJobIndex.Hit> page = index.search(criteria, after, pageSize);
+            if (page.isEmpty()) {
+                return ids;
+            }
+            page.forEach(hit -> ids.add(hit.jobId()));
+            // Round-trip through the encoded form, as a client would
+            after = JobSearchCursor.decode(page.get(page.size() - 1).cursor().encode());
+        }
+    }
+
+    private static JobSearchCriteria criteria(String q, JobSort sort) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setQ(q);
+        criteria.setSort(sort);
+        return criteria;
+    }
+
+    private void open(Long id, String projectName, long maxBudget, boolean urgent) {
+        index.onJobChanged(JobChangedEvent.created(JobSnapshot.builder()
+                .id(id)
+                .projectName(projectName)
+                .skills(List.of())
+                .budgetType(Job.BudgetType.FIXED)
+                .maxBudgetCents(maxBudget > 0 ? BigInteger.valueOf(maxBudget) : null)
+                .urgent(urgent)
+                .status(Job.JobStatus.OPEN)
+                .createdAt(START.plusHours(id))
+                .build()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.dto.JobSort;
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenJobBitmapIndexTest {
+
+    private OpenJobBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenJobBitmapIndex(new SkillTaxonomy(List.of()));
+
+        open(1L, List.of("Java"), 50_000, false);
+        open(2L, List.of("Java"), 0, true);
+        open(3L, List.of("Java"), 90_000, false);
+        open(4L, List.of("Go"), 50_000, true);
+        open(5L, List.of("Java"), 20_000, true);
+        open(6L, List.of("Java"), 0, false);
+    }
+
+    @Test
+    void testBudgetHigh_JobsWithoutBudgetLast() {
+        // Given
+        RoaringBitmap javaJobs = index.match(List.of("java"), false, null, null, null, null, null);
+
+        // When / Then
+        assertEquals(List.of(3L, 1L, 5L, 6L, 2L), pageThrough(javaJobs, JobSort.BUDGET_HIGH, 2));
+    }
+
+    @Test
+    void testBudgetLow_JobsWithoutBudgetLast() {
+        // Given
+        RoaringBitmap allJobs = index.match(List.of(), false, null, null, null, null, null);
+
+        // When / Then
+        assertEquals(List.of(5L, 1L, 4L, 3L, 2L, 6L), pageThrough(allJobs, JobSort.BUDGET_LOW, 4));
+    }
+
+    @Test
+    void testUrgent_UrgentFirstThenNewest() {
+        // Given
+        RoaringBitmap javaJobs = index.match(List.of("java"), false, null, null, null, null, null);
+
+        // When / Then
+        assertEquals(List.of(5L, 2L, 6L, 3L, 1L), pageThrough(javaJobs, JobSort.URGENT, 1));
+    }
+
+    @Test
+    void testBudgetEdit_MovesJob() {
+        // Given
+        JobSnapshot before = job(1L, List.of("Java"), 50_000, false);
+        JobSnapshot after = job(1L, List.of("Java"), 95_000, false);
+
+        // When
+        index.onJobChanged(JobChangedEvent.updated(before, after));
+        RoaringBitmap javaJobs = index.match(List.of("java"), false, null, null, null, null, null);
+
+        // Then
+        assertEquals(List.of(1L, 3L, 5L, 6L, 2L), pageThrough(javaJobs, JobSort.BUDGET_HIGH, 10));
+    }
+
+    // Every id in order, following each page's last position like a client following nextCursor
+    private List<Long> pageThrough(RoaringBitmap candidates, JobSort sort, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        JobSearchCursor after = null;
+        while (true) {
+            List<JobSearchCursor> page = index.sortedPositions(candidates, sort, after, pageSize);
+            if (page.isEmpty()) {
+                return ids;
+            }
+            page.forEach(position -> ids.add(position.id()));
+            // Round-trip through the encoded form, as a client would
+            after = JobSearchCursor.decode(page.get(page.size() - 1).encode());
+        }
+    }
+
+    private void open(Long id, List<String> skills, long maxBudget, boolean urgent) {
+        index.onJobChanged(JobChangedEvent.created(job(id, skills, maxBudget, urgent)));
+    }
+
+    private static JobSnapshot job(Long id, List<String> skills, long maxBudget, boolean urgent) {
+        return JobSnapshot.builder()
+                .id(id)
+                .skills(skills)
+                .budgetType(Job.BudgetType.FIXED)
+                .maxBudgetCents(maxBudget > 0 ? BigInteger.valueOf(maxBudget) : null)
+                .urgent(urgent)
+                .status(Job.JobStatus.OPEN)
+                .build();
+    }
+}
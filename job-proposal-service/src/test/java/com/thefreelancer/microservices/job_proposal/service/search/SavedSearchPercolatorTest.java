@@ -0,0 +1,131 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchMatchedEvent;
+import com.thefreelancer.microservices.job_proposal.event.SavedSearchSnapshot;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import com.thefreelancer.microservices.job_proposal.repository.SavedSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchPercolatorTest {
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SavedSearchPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new SavedSearchPercolator(savedSearchRepository, transactionManager, eventPublisher,
+                new SkillTaxonomy(List.of()));
+
+        save(SavedSearchSnapshot.builder().id(1L).freelancerId(10L).skills(List.of("React", "TypeScript")).build());
+        save(SavedSearchSnapshot.builder().id(2L).freelancerId(20L).skills(List.of()).category("Web Development")
+                .budgetType(Job.BudgetType.FIXED).build());
+        save(SavedSearchSnapshot.builder().id(3L).freelancerId(30L).skills(List.of())
+                .minBudgetCents(BigInteger.valueOf(50_000)).maxBudgetCents(BigInteger.valueOf(100_000)).build());
+        save(SavedSearchSnapshot.builder().id(4L).freelancerId(40L).skills(List.of()).urgent(true).build());
+        save(SavedSearchSnapshot.builder().id(5L).freelancerId(50L).skills(List.of("Go")).urgent(true).build());
+    }
+
+    @Test
+    void testMatch_UsesEveryFilter() {
+        // Given
+        JobSnapshot job = job(100L, List.of("react", "Node"), "web development", Job.BudgetType.FIXED,
+                80_000, 120_000, false);
+
+        // When
+        List<Long> matched = percolator.match(job).stream().map(SavedSearchSnapshot::getId).sorted().toList();
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), matched);
+    }
+
+    @Test
+    void testMatch_BudgetOutsideRangeAndWrongUrgency() {
+        // Given
+        JobSnapshot job = job(101L, List.of("Go"), "Backend", Job.BudgetType.HOURLY, 200_000, 300_000, false);
+
+        // When / Then
+        assertTrue(percolator.match(job).isEmpty());
+    }
+
+    @Test
+    void testDeletedSearch_NoLongerMatches() {
+        // Given
+        percolator.onSavedSearchChanged(SavedSearchChangedEvent.deleted(1L));
+        JobSnapshot job = job(102L, List.of("TypeScript"), null, Job.BudgetType.HOURLY, 0, 0, false);
+
+        // When / Then
+        assertTrue(percolator.match(job).isEmpty());
+        assertEquals(4, percolator.size());
+    }
+
+    @Test
+    void testJobOpened_PublishesOneEventPerMatch() {
+        // Given
+        JobSnapshot opened = job(103L, List.of("Go"), null, Job.BudgetType.HOURLY, 0, 0, true);
+        JobSnapshot previous = JobSnapshot.builder().id(103L).skills(List.of("Go")).urgent(true)
+                .status(Job.JobStatus.DRAFT).build();
+
+        // When
+        percolator.onJobChanged(JobChangedEvent.updated(previous, opened));
+
+        // Then
+        verify(eventPublisher).publishEvent(new SavedSearchMatchedEvent(4L, 40L, 103L));
+        verify(eventPublisher).publishEvent(new SavedSearchMatchedEvent(5L, 50L, 103L));
+    }
+
+    @Test
+    void testStartupReplay_IsNotPercolated() {
+        // Given
+        JobSnapshot job = job(104L, List.of("Go"), null, Job.BudgetType.HOURLY, 0, 0, true);
+
+        // When
+        percolator.onJobChanged(JobChangedEvent.loaded(job));
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void save(SavedSearchSnapshot query) {
+        percolator.onSavedSearchChanged(SavedSearchChangedEvent.saved(query));
+    }
+
+    private static JobSnapshot job(Long id, List<String> skills, String category, Job.BudgetType budgetType,
+                                   long minBudget, long maxBudget, boolean urgent) {
+        return JobSnapshot.builder()
+                .id(id)
+                .skills(skills)
+                .category(category)
+                .budgetType(budgetType)
+                .minBudgetCents(minBudget > 0 ? BigInteger.valueOf(minBudget) : null)
+                .maxBudgetCents(maxBudget > 0 ? BigInteger.valueOf(maxBudget) : null)
+                .urgent(urgent)
+                .status(Job.JobStatus.OPEN)
+                .build();
+    }
+}
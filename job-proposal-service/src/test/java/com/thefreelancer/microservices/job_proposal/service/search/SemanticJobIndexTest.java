@@ -0,0 +1,100 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import com.thefreelancer.microservices.job_proposal.event.JobChangedEvent;
+import com.thefreelancer.microservices.job_proposal.event.JobSnapshot;
+import com.thefreelancer.microservices.job_proposal.event.JobsLoadedEvent;
+import com.thefreelancer.microservices.job_proposal.model.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemanticJobIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    private SemanticJobIndex index;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Test
+    void testSearch_FindsJobsOfTheSameConcept() throws IOException {
+        // Given
+        index = open();
+        load(job(1L, "Frontend admin panel", "Build the back office for our shop"));
+        load(job(2L, "Logo for a bakery", "Branding and illustration"));
+        index.refresh();
+
+        // When / Then
+        assertEquals(1L, index.search("react dashboard", 1).get(0).jobId());
+    }
+
+    @Test
+    void testReopen_KeepsReplayedJobsAndDropsTheRest() throws IOException {
+        // Given
+        index = open();
+        load(job(1L, "Frontend admin panel", "Build the back office for our shop"));
+        load(job(2L, "Vue analytics dashboard", "Reporting portal"));
+        index.onJobsLoaded(new JobsLoadedEvent(2));
+        index.close();
+
+        // When: job 2 closed while the service was down, so only job 1 is replayed
+        index = open();
+        load(job(1L, "Frontend admin panel", "Build the back office for our shop"));
+        index.onJobsLoaded(new JobsLoadedEvent(1));
+        index.refresh();
+
+        // Then
+        assertEquals(List.of(1L), index.search("react dashboard", 10).stream()
+                .map(SemanticJobIndex.Match::jobId).toList());
+    }
+
+    @Test
+    void testReopen_ReembedsChangedText() throws IOException {
+        // Given
+        index = open();
+        load(job(1L, "Logo for a bakery", "Branding and illustration"));
+        index.onJobsLoaded(new JobsLoadedEvent(1));
+        index.close();
+
+        // When: the job was edited while the service was down
+        index = open();
+        load(job(1L, "Frontend admin panel", "Build the back office for our shop"));
+        index.onJobsLoaded(new JobsLoadedEvent(1));
+        index.refresh();
+
+        // Then
+        List<SemanticJobIndex.Match> matches = index.search("react dashboard", 10);
+        assertEquals(1, matches.size());
+        assertTrue(matches.get(0).score() > 0.6f);
+    }
+
+    private SemanticJobIndex open() throws IOException {
+        return new SemanticJobIndex(new JobTextEmbedder(), indexPath.toString());
+    }
+
+    private void load(JobSnapshot job) {
+        index.onJobChanged(JobChangedEvent.loaded(job));
+    }
+
+    private static JobSnapshot job(Long id, String projectName, String description) {
+        return JobSnapshot.builder()
+                .id(id)
+                .projectName(projectName)
+                .description(description)
+                .skills(List.of())
+                .status(Job.JobStatus.OPEN)
+                .build();
+    }
+}
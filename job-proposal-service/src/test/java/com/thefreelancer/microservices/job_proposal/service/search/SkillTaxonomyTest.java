@@ -0,0 +1,38 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillTaxonomyTest {
+
+    private final SkillTaxonomy taxonomy = new SkillTaxonomy(List.of(
+            "# comment",
+            "Java = core java",
+            "Spring < Java = spring framework",
+            "Spring Boot < Spring = springboot, spring-boot",
+            "Spring MVC < Spring"));
+
+    @Test
+    void testExpand_IncludesSynonymsAndDescendants() {
+        assertEquals(Set.of("spring", "spring framework", "spring boot", "springboot", "spring-boot", "spring mvc"),
+                taxonomy.expand("Spring"));
+        assertTrue(taxonomy.expand("java").containsAll(Set.of("core java", "spring boot", "spring mvc")));
+    }
+
+    @Test
+    void testExpand_SynonymExpandsLikeItsCanonicalSkill() {
+        assertEquals(taxonomy.expand("Spring Boot"), taxonomy.expand(" SpringBoot "));
+        assertFalse(taxonomy.expand("springboot").contains("spring"));
+    }
+
+    @Test
+    void testExpand_UnknownSkillExpandsToItself() {
+        assertEquals(Set.of("cobol"), taxonomy.expand("COBOL"));
+        assertFalse(taxonomy.isKnown("cobol"));
+        assertTrue(taxonomy.expand("  ").isEmpty());
+    }
+}
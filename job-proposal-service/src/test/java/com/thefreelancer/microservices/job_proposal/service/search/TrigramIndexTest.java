@@ -0,0 +1,69 @@
+package com.thefreelancer.microservices.job_proposal.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        for (String skill : List.of("react", "react native", "javascript", "java", "node.js", "spring boot")) {
+            index.add(skill, skill, 1);
+        }
+    }
+
+    @Test
+    void testNearest_FindsTypos() {
+        assertEquals("react", nearestKey("reakt"));
+        assertEquals("react", nearestKey("reactjs"));
+    }
+
+    @Test
+    void testNearest_IgnoresSeparators() {
+        assertEquals("javascript", nearestKey("java script"));
+        assertEquals("spring boot", nearestKey("springboot"));
+        assertEquals("node.js", nearestKey("nodejs"));
+    }
+
+    @Test
+    void testNearest_NothingCloseEnough() {
+        assertTrue(nearest("kubernetes").isEmpty());
+    }
+
+    @Test
+    void testAdd_RemovesTermWhenWeightDropsToZero() {
+        // Given
+        index.add("react", "react", 1);
+
+        // When
+        index.add("react", "react", -1);
+
+        // Then
+        assertTrue(index.contains("react"));
+
+        // When
+        index.add("react", "react", -1);
+
+        // Then
+        assertFalse(index.contains("react"));
+        assertTrue(nearest("reakt").stream().noneMatch(match -> match.key().equals("react")));
+    }
+
+    private String nearestKey(String term) {
+        List<TrigramIndex.Match> matches = nearest(term);
+        assertFalse(matches.isEmpty(), "no match for " + term);
+        return matches.get(0).key();
+    }
+
+    private List<TrigramIndex.Match> nearest(String term) {
+        return index.nearest(term, 3, 0.3, System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+    }
+}
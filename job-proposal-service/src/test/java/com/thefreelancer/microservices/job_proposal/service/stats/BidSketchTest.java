@@ -0,0 +1,107 @@
+package com.thefreelancer.microservices.job_proposal.service.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+
+    @Test
+    void testQuantiles_WithinRelativeAccuracy() {
+        // Given
+        List<Long> bids = randomBids(5_000, 1);
+        BidSketch sketch = new BidSketch();
+        bids.forEach(sketch::add);
+
+        // When / Then
+        assertWithinAccuracy(bids, sketch);
+    }
+
+    @Test
+    void testRemove_TakesBidsOutAgain() {
+        // Given
+        List<Long> bids = randomBids(2_000, 2);
+        BidSketch sketch = new BidSketch();
+        bids.forEach(sketch::add);
+
+        // When
+        List<Long> withdrawn = new ArrayList<>(bids.subList(0, 1_500));
+        withdrawn.forEach(bid -> assertTrue(sketch.remove(bid)));
+        bids = bids.subList(1_500, bids.size());
+
+        // Then
+        assertEquals(500, sketch.count());
+        assertWithinAccuracy(bids, sketch);
+        assertFalse(new BidSketch().remove(10_000));
+    }
+
+    @Test
+    void testMerge_MatchesOneSketchOfEverything() {
+        // Given
+        List<Long> first = randomBids(1_000, 3);
+        List<Long> second = randomBids(1_000, 4);
+        BidSketch left = new BidSketch();
+        BidSketch right = new BidSketch();
+        BidSketch both = new BidSketch();
+        first.forEach(left::add);
+        second.forEach(right::add);
+        first.forEach(both::add);
+        second.forEach(both::add);
+
+        // When
+        left.merge(right);
+
+        // Then
+        assertEquals(both.count(), left.count());
+        for (double q : QUANTILES) {
+            assertEquals(both.quantile(q), left.quantile(q));
+        }
+    }
+
+    @Test
+    void testBytes_RoundTrip() {
+        // Given
+        BidSketch sketch = new BidSketch();
+        randomBids(300, 5).forEach(sketch::add);
+        sketch.add(0);
+
+        // When
+        BidSketch copy = BidSketch.fromBytes(sketch.toBytes());
+
+        // Then
+        assertEquals(sketch.count(), copy.count());
+        for (double q : QUANTILES) {
+            assertEquals(sketch.quantile(q), copy.quantile(q));
+        }
+        assertEquals(0, BidSketch.fromBytes(null).count());
+        assertNull(BidSketch.fromBytes(null).quantile(0.5));
+    }
+
+    private static void assertWithinAccuracy(List<Long> bids, BidSketch sketch) {
+        List<Long> sorted = new ArrayList<>(bids);
+        Collections.sort(sorted);
+        for (double q : QUANTILES) {
+            long exact = sorted.get((int) Math.floor(q * (sorted.size() - 1)));
+            long estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= BidSketch.RELATIVE_ACCURACY * exact + 1,
+                    "quantile " + q + ": " + estimate + " vs " + exact);
+        }
+    }
+
+    // Log-normal amounts around $1,600, as bids on one job tend to be spread
+    private static List<Long> randomBids(int count, long seed) {
+        Random random = new Random(seed);
+        List<Long> bids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bids.add(Math.max(1L, (long) Math.exp(12 + 1.5 * random.nextGaussian())));
+        }
+        return bids;
+    }
+}
@@ -397,7 +397,8 @@ export const jobAPI = {
     budgetMax?: number;
   }): Promise<Job[]> => {
     const response = await jobProposalAPI.get('/api/jobs/search', { params });
-    return response.data;
+    // Search is paginated: { items, nextCursor }
+    return response.data.items;
   },
 
   // Create new job - Updated for job-proposal-service
@@ -33,6 +33,13 @@ export interface Proposal {
   };
 }
 
+export interface ProposalPage {
+  items: Proposal[];
+  nextCursor: string | null; // null when there are no more results
+}
+
+export type ProposalSort = 'NEWEST' | 'PRICE_LOW' | 'FASTEST';
+
 class ProposalService {
   // Submit a new proposal for a job
   async submitProposal(proposalData: ProposalData): Promise<Proposal> {
@@ -40,18 +47,42 @@ class ProposalService {
     return response.data;
   }
 
-  // Get all proposals submitted by the current freelancer
-  async getMyProposals(): Promise<Proposal[]> {
-    const response = await api.get('/api/proposals/my-proposals');
+  // Get one page of the proposals submitted by the current freelancer, newest first
+  async getMyProposalsPage(
+    params: { status?: Proposal['status']; cursor?: string; limit?: number } = {}
+  ): Promise<ProposalPage> {
+    const response = await api.get('/api/proposals/my-proposals', { params });
     return response.data;
   }
 
-  // Get all proposals for a specific job (for clients)
-  async getJobProposals(jobId: number): Promise<Proposal[]> {
-    const response = await api.get(`/api/proposals/job/${jobId}`);
+  // Get the proposals submitted by the current freelancer
+  async getMyProposals(
+    params: { status?: Proposal['status']; cursor?: string; limit?: number } = {}
+  ): Promise<Proposal[]> {
+    // The listing is paginated: { items, nextCursor }
+    const page = await this.getMyProposalsPage(params);
+    return page.items;
+  }
+
+  // Get one page of the proposals for a specific job (for clients)
+  async getJobProposalsPage(
+    jobId: number,
+    params: { sort?: ProposalSort; cursor?: string; limit?: number } = {}
+  ): Promise<ProposalPage> {
+    const response = await api.get(`/api/proposals/job/${jobId}`, { params });
     return response.data;
   }
 
+  // Get the proposals for a specific job (for clients)
+  async getJobProposals(
+    jobId: number,
+    params: { sort?: ProposalSort; cursor?: string; limit?: number } = {}
+  ): Promise<Proposal[]> {
+    // The listing is paginated: { items, nextCursor }
+    const page = await this.getJobProposalsPage(jobId, params);
+    return page.items;
+  }
+
   // Get a specific proposal by ID
   async getProposal(id: number): Promise<Proposal> {
     const response = await api.get(`/api/proposals/${id}`);